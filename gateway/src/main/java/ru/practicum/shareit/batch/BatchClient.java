@@ -0,0 +1,46 @@
+package ru.practicum.shareit.batch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CborTranscoder;
+import ru.practicum.shareit.client.ClientResilience;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.RequestHedging;
+import ru.practicum.shareit.client.ServerBalancer;
+import ru.practicum.shareit.client.SingleFlight;
+
+import java.util.List;
+
+@Service
+public class BatchClient extends BaseClient {
+    private static final String API_PREFIX = "/batch";
+
+    @Autowired
+    public BatchClient(ServerBalancer balancer, RestTemplateBuilder builder,
+                       ClientHttpRequestFactory requestFactory, CborTranscoder cborTranscoder,
+                       GatewayResponseCache responseCache, SingleFlight singleFlight,
+                       RequestHedging hedging, ClientResilience resilience) {
+        super(
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(balancer.getBaseUrl() + API_PREFIX))
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(balancer, cborTranscoder)
+                        .build(),
+                responseCache,
+                singleFlight,
+                hedging,
+                resilience.guard(API_PREFIX.substring(1))
+        );
+    }
+
+    public ResponseEntity<Object> execute(long userId, List<BatchRequestDto> requests) {
+        return query("", userId, requests);
+    }
+
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.dto.BatchDto;
+import ru.practicum.shareit.ratelimit.RateLimitInterceptor;
+import ru.practicum.shareit.ratelimit.RouteClass;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+
+@Controller
+@RequestMapping(path = "/batch")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class BatchController {
+    private final BatchClient batchClient;
+    private final BatchRequestValidator batchRequestValidator;
+    private final ObjectProvider<RateLimitInterceptor> rateLimit;
+
+    @PostMapping
+    public ResponseEntity<Object> execute(@RequestHeader("X-Sharer-User-Id") long userId,
+                                          @RequestBody @Valid BatchDto batchDto,
+                                          HttpServletRequest request) {
+        log.info("Batch of {} requests, userId={}", batchDto.getRequests().size(), userId);
+        batchDto.getRequests().forEach(subRequest -> batchRequestValidator.validate(userId, subRequest, request));
+        rateLimit.ifAvailable(limiter -> limiter.acquire(request, RouteClass.READ, batchDto.getRequests().size()));
+        return batchClient.execute(userId, batchDto.getRequests());
+    }
+
+}
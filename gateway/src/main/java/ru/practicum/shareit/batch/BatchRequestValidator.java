@@ -0,0 +1,175 @@
+package ru.practicum.shareit.batch;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a sub-request against the gateway's own request mappings and applies the validation of the matched
+ * handler: path variables are converted to the handler's parameter types and its method constraints are checked.
+ * Only handlers marked {@link Batchable} are accepted. The MVC infrastructure is looked up lazily, as it is only
+ * present in a web application context.
+ */
+@Component
+public class BatchRequestValidator {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private final ObjectProvider<ConversionService> conversionService;
+    private final Validator validator;
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+
+    public BatchRequestValidator(@Qualifier("requestMappingHandlerMapping")
+                                 ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+                                 @Qualifier("mvcConversionService") ObjectProvider<ConversionService> conversionService,
+                                 Validator validator) {
+        this.handlerMapping = handlerMapping;
+        this.conversionService = conversionService;
+        this.validator = validator;
+    }
+
+    public void validate(long userId, BatchRequestDto request, HttpServletRequest batchRequest) {
+        SubRequest subRequest = new SubRequest(batchRequest, request.getMethod(), request.getPath());
+        HandlerMethod handler = resolve(subRequest, request);
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) subRequest
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        MethodParameter[] parameters = handler.getMethodParameters();
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = argument(userId, parameters[i], variables, request);
+        }
+        Set<ConstraintViolation<Object>> violations = validator.forExecutables()
+                .validateParameters(handler.getBean(), handler.getMethod(), args);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(request.getId() + ": " + violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private HandlerMethod resolve(SubRequest subRequest, BatchRequestDto request) {
+        RequestMappingHandlerMapping mapping = handlerMapping.getObject();
+        HandlerExecutionChain chain;
+        try {
+            if (mapping.usesPathPatterns()) {
+                ServletRequestPathUtils.parseAndCache(subRequest);
+            }
+            chain = mapping.getHandler(subRequest);
+        } catch (Exception e) {
+            throw unsupported(request);
+        }
+        if (chain == null || !(chain.getHandler() instanceof HandlerMethod)
+                || !((HandlerMethod) chain.getHandler()).hasMethodAnnotation(Batchable.class)) {
+            throw unsupported(request);
+        }
+        return (HandlerMethod) chain.getHandler();
+    }
+
+    private Object argument(long userId, MethodParameter parameter, Map<String, String> variables,
+                            BatchRequestDto request) {
+        RequestHeader header = parameter.getParameterAnnotation(RequestHeader.class);
+        if (header != null && USER_ID_HEADER.equals(header.value())) {
+            return userId;
+        }
+        PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+        if (pathVariable == null || variables == null) {
+            throw unsupported(request);
+        }
+        parameter.initParameterNameDiscovery(parameterNames);
+        String name = StringUtils.hasText(pathVariable.value()) ? pathVariable.value() : parameter.getParameterName();
+        try {
+            return conversionService.getObject().convert(variables.get(name), parameter.getParameterType());
+        } catch (ConversionException e) {
+            throw new IllegalArgumentException(request.getId() + ": invalid path variable " + name + "="
+                    + variables.get(name));
+        }
+    }
+
+    private static IllegalArgumentException unsupported(BatchRequestDto request) {
+        return new IllegalArgumentException(request.getId() + ": unsupported batch request "
+                + request.getMethod() + " " + request.getPath());
+    }
+
+    /**
+     * The batch request seen as a plain request to the sub-request path. Attributes are kept locally so that
+     * resolving the sub-request does not overwrite the lookup path cached on the batch request itself.
+     */
+    private static class SubRequest extends HttpServletRequestWrapper {
+        private final String method;
+        private final String path;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        SubRequest(HttpServletRequest request, String method, String path) {
+            super(request);
+            this.method = method;
+            this.path = path;
+        }
+
+        @Override
+        public String getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getRequestURI() {
+            return getContextPath() + path;
+        }
+
+        @Override
+        public String getServletPath() {
+            return path;
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public String getQueryString() {
+            return null;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDto {
+
+    @NotBlank
+    private String id;
+
+    @NotNull
+    private String method;
+
+    @NotNull
+    private String path;
+
+}
@@ -2,16 +2,22 @@ package ru.practicum.shareit.booking;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CborTranscoder;
+import ru.practicum.shareit.client.ClientResilience;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.RequestHedging;
+import ru.practicum.shareit.client.ServerBalancer;
+import ru.practicum.shareit.client.SingleFlight;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
@@ -20,12 +26,20 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(ServerBalancer balancer, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory, CborTranscoder cborTranscoder,
+                         GatewayResponseCache responseCache, SingleFlight singleFlight,
+                         RequestHedging hedging, ClientResilience resilience) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(balancer.getBaseUrl() + API_PREFIX))
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(balancer, cborTranscoder)
+                        .build(),
+                responseCache,
+                singleFlight,
+                hedging,
+                resilience.guard(API_PREFIX.substring(1))
         );
     }
 
@@ -37,13 +51,18 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> findAllBookingsForOwner(long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
+    public ResponseEntity<Object> findAllBookingsForOwner(long userId, BookingState state, Integer from, Integer size,
+                                                          String after) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        ));
+        if (after == null) {
+            return get("?state={state}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("after", after);
+        return get("?state={state}&from={from}&size={size}&after={after}", userId, parameters);
     }
 
     public ResponseEntity<Object> updateStatusBooking(long userId, long bookingId, String approved) {
@@ -57,13 +76,18 @@ public class BookingClient extends BaseClient {
         return delete("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> findBookingForAllOwnerItems(long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
+    public ResponseEntity<Object> findBookingForAllOwnerItems(long userId, BookingState state, Integer from, Integer size,
+                                                              String after) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        ));
+        if (after == null) {
+            return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("after", after);
+        return get("/owner?state={state}&from={from}&size={size}&after={after}", userId, parameters);
     }
 
 }
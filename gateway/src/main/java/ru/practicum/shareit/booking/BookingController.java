@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.Batchable;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
@@ -28,6 +29,7 @@ public class BookingController {
         return bookingClient.createBooking(userId, requestDto);
     }
 
+    @Batchable
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> findBooking(@RequestHeader("X-Sharer-User-Id") long userId,
                                               @PathVariable Long bookingId) {
@@ -39,11 +41,12 @@ public class BookingController {
     public ResponseEntity<Object> findAllBookingsForOwner(@RequestHeader("X-Sharer-User-Id") long userId,
                                                           @RequestParam(name = "state", defaultValue = "all") String stateParam,
                                                           @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                          @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                                          @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                          @RequestParam(name = "after", required = false) String after) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.findAllBookingsForOwner(userId, state, from, size);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", stateParam, userId, from, size, after);
+        return bookingClient.findAllBookingsForOwner(userId, state, from, size, after);
     }
 
     @PatchMapping("/{bookingId}")
@@ -65,11 +68,12 @@ public class BookingController {
     public ResponseEntity<Object> findBookingForAllOwnerItems(@RequestHeader("X-Sharer-User-Id") long userId,
                                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
                                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                              @RequestParam(name = "after", required = false) String after) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        log.info("Get booking for owner with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.findBookingForAllOwnerItems(userId, state, from, size);
+        log.info("Get booking for owner with state {}, userId={}, from={}, size={}, after={}", stateParam, userId, from, size, after);
+        return bookingClient.findBookingForAllOwnerItems(userId, state, from, size, after);
     }
 
 }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.balancer")
+public class BalancerProperties {
+
+    private boolean stickyByUser = false;
+    private String healthCheckPath = "/actuator/health";
+    private int maxConsecutiveFailures = 3;
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+}
@@ -4,15 +4,33 @@ import org.springframework.http.*;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.client.GatewayResponseCache.CachedResponse;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 public class BaseClient {
-    protected final RestTemplate rest;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade", "content-length");
 
-    public BaseClient(RestTemplate rest) {
+    protected final RestTemplate rest;
+    private final GatewayResponseCache responseCache;
+    private final SingleFlight singleFlight;
+    private final RequestHedging hedging;
+    private final ClientResilience.Guard guard;
+    private final String resource;
+
+    public BaseClient(RestTemplate rest, GatewayResponseCache responseCache, SingleFlight singleFlight,
+                      RequestHedging hedging, ClientResilience.Guard guard) {
         this.rest = rest;
+        this.responseCache = responseCache;
+        this.singleFlight = singleFlight;
+        this.hedging = hedging;
+        this.guard = guard;
+        String basePath = rest.getUriTemplateHandler().expand("").getPath();
+        this.resource = basePath.substring(basePath.lastIndexOf('/') + 1);
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -27,6 +45,15 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    /**
+     * GET whose response does not depend on the caller: concurrent and cached requests
+     * from different users share one upstream call and one cache entry.
+     */
+    protected ResponseEntity<Object> getShared(String path, long userId, Map<String, Object> parameters) {
+        String cacheKey = cacheKey(path, null, parameters);
+        return singleFlight.execute(cacheKey, () -> sendRequest(HttpMethod.GET, path, userId, parameters, null, cacheKey, false));
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -75,20 +102,68 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected <T> ResponseEntity<Object> query(String path, long userId, T body) {
+        return sendRequest(HttpMethod.POST, path, userId, null, body, null, false);
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        if (method == HttpMethod.GET) {
+            String cacheKey = cacheKey(path, userId, parameters);
+            return singleFlight.execute(cacheKey, () -> sendRequest(method, path, userId, parameters, body, cacheKey, false));
+        }
+        return sendRequest(method, path, userId, parameters, body, null, true);
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    private <T> ResponseEntity<Object> sendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String cacheKey, boolean mutating) {
+        CachedResponse cached = cacheKey != null ? responseCache.get(cacheKey) : null;
+        if (cached != null && cached.isFresh()) {
+            return fromCache(cached);
+        }
+
+        HttpHeaders headers = defaultHeaders(userId);
+        if (cached != null && cached.getETag() != null) {
+            headers.setIfNoneMatch(cached.getETag());
+        }
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+
+        Supplier<ResponseEntity<byte[]>> attempt = () -> guard.call(() -> exchange(method, path, parameters, requestEntity));
+        ResponseEntity<byte[]> shareitServerResponse = cacheKey != null ? hedging.execute(attempt) : attempt.get();
+
+        if (cached != null && shareitServerResponse.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return fromCache(cached);
+        }
+        if (shareitServerResponse.getStatusCode().is2xxSuccessful()) {
+            if (cacheKey != null) {
+                responseCache.put(cacheKey, resource, shareitServerResponse.getStatusCode(),
+                        forwardedHeaders(shareitServerResponse.getHeaders()), shareitServerResponse.getBody());
+            } else if (mutating) {
+                responseCache.invalidateAfterWrite(resource);
+            }
+        }
+        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private <T> ResponseEntity<byte[]> exchange(HttpMethod method, String path, @Nullable Map<String, Object> parameters, HttpEntity<T> requestEntity) {
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                return rest.exchange(path, method, requestEntity, byte[].class, parameters);
             }
+            return rest.exchange(path, method, requestEntity, byte[].class);
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(e.getResponseHeaders())
+                    .body(e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private String cacheKey(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return userId + " " + rest.getUriTemplateHandler().expand(path, parameters != null ? parameters : Map.of());
+    }
+
+    private static ResponseEntity<Object> fromCache(CachedResponse cached) {
+        return ResponseEntity.status(cached.getStatus())
+                .headers(cached.getHeaders())
+                .body(cached.getBody());
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -101,12 +176,9 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(forwardedHeaders(response.getHeaders()));
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
@@ -114,4 +186,16 @@ public class BaseClient {
 
         return responseBuilder.build();
     }
+
+    private static HttpHeaders forwardedHeaders(@Nullable HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            serverHeaders.forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    headers.addAll(name, values);
+                }
+            });
+        }
+        return headers;
+    }
 }
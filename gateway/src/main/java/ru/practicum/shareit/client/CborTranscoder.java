@@ -0,0 +1,108 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Component
+public class CborTranscoder implements ClientHttpRequestInterceptor {
+    private static final List<MediaType> ACCEPT = List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON);
+
+    private final boolean enabled;
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public CborTranscoder(@Value("${shareit-server.cbor.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (!enabled) {
+            return execution.execute(request, body);
+        }
+        request.getHeaders().setAccept(ACCEPT);
+        ClientHttpResponse response = execution.execute(request, body);
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !MediaType.APPLICATION_CBOR.isCompatibleWith(contentType)) {
+            return response;
+        }
+        try (response) {
+            return new JsonResponse(response.getRawStatusCode(), response.getStatusText(),
+                    response.getHeaders(), toJson(response.getBody()));
+        }
+    }
+
+    byte[] toJson(InputStream cbor) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonParser parser = cborFactory.createParser(cbor);
+             JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        return json.toByteArray();
+    }
+
+    private static class JsonResponse implements ClientHttpResponse {
+        private final int status;
+        private final String statusText;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        JsonResponse(int status, String statusText, HttpHeaders serverHeaders, byte[] body) {
+            this.status = status;
+            this.statusText = statusText;
+            this.body = body;
+            headers.putAll(serverHeaders);
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.valueOf(status);
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return status;
+        }
+
+        @Override
+        public String getStatusText() {
+            return statusText;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
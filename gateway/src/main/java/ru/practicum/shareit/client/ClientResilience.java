@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
+import ru.practicum.shareit.exception.ServerUnavailableException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ClientResilience {
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public ClientResilience(ResilienceProperties properties, MeterRegistry registry) {
+        this.circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+                .build());
+        this.bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxBulkheadWait())
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(registry);
+    }
+
+    public Guard guard(String name) {
+        return new Guard(circuitBreakers.circuitBreaker(name), bulkheads.bulkhead(name));
+    }
+
+    public static class Guard {
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead bulkhead;
+
+        private Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead = bulkhead;
+        }
+
+        public <T> ResponseEntity<T> call(Supplier<ResponseEntity<T>> upstream) {
+            try {
+                bulkhead.acquirePermission();
+            } catch (BulkheadFullException e) {
+                throw new ServerUnavailableException(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            try {
+                circuitBreaker.acquirePermission();
+            } catch (CallNotPermittedException e) {
+                bulkhead.onComplete();
+                throw new ServerUnavailableException(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+            }
+
+            long start = System.nanoTime();
+            try {
+                ResponseEntity<T> response = upstream.get();
+                long duration = System.nanoTime() - start;
+                if (response.getStatusCode().is5xxServerError()) {
+                    circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+                            new HttpServerErrorException(response.getStatusCode()));
+                } else {
+                    circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                }
+                return response;
+            } catch (RestClientException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                log.warn("Call through {} failed: {}", circuitBreaker.getName(), e.getMessage());
+                throw new ServerUnavailableException("ShareIt server is unavailable", HttpStatus.BAD_GATEWAY);
+            } catch (RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            } finally {
+                bulkhead.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Per-instance cache of upstream GET responses. A successful write through this gateway drops the cached responses of
+ * the written resource and of the resources whose responses embed it, for every user, since a write by one user
+ * changes what others see (a new booking changes the owner's view of the item). Writes that go through another
+ * gateway instance are not seen here: such an entry stays fresh for at most {@code time-to-live} (or the server's
+ * {@code max-age}), after which it is revalidated by ETag, so cross-instance staleness is bounded by that TTL.
+ */
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class GatewayResponseCache {
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Map<String, Set<String>> AFFECTED_BY_WRITE = Map.of(
+            "users", Set.of("users", "items", "bookings", "requests"),
+            "items", Set.of("items", "bookings", "requests"),
+            "bookings", Set.of("bookings", "items"),
+            "requests", Set.of("requests"));
+
+    private final boolean enabled;
+    private final long timeToLiveNanos;
+    private final Cache<String, CachedResponse> cache;
+
+    public GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry registry) {
+        this.enabled = properties.isEnabled();
+        this.timeToLiveNanos = properties.getTimeToLive().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight().toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "gateway-responses");
+    }
+
+    @Nullable
+    public CachedResponse get(String key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(String key, String resource, HttpStatus status, HttpHeaders headers, @Nullable byte[] body) {
+        if (!enabled) {
+            return;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return;
+        }
+        long freshUntil = freshUntil(cacheControl);
+        if (headers.getETag() == null && freshUntil == 0) {
+            return;
+        }
+        cache.put(key, new CachedResponse(resource, status, headers, body, headers.getETag(), freshUntil));
+    }
+
+    public void invalidateAfterWrite(String resource) {
+        Set<String> affected = AFFECTED_BY_WRITE.getOrDefault(resource, Set.of(resource));
+        cache.asMap().values().removeIf(response -> affected.contains(response.getResource()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private long freshUntil(@Nullable String cacheControl) {
+        if (cacheControl != null && cacheControl.contains("no-cache")) {
+            return 0;
+        }
+        Matcher maxAge = cacheControl != null ? MAX_AGE.matcher(cacheControl) : null;
+        long ttl = maxAge != null && maxAge.find()
+                ? TimeUnit.SECONDS.toNanos(Long.parseLong(maxAge.group(1)))
+                : timeToLiveNanos;
+        return ttl > 0 ? System.nanoTime() + ttl : 0;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedResponse {
+        private final String resource;
+        private final HttpStatus status;
+        private final HttpHeaders headers;
+        @Nullable
+        private final byte[] body;
+        @Nullable
+        private final String eTag;
+        private final long freshUntil;
+
+        int weight() {
+            return body != null ? body.length : 0;
+        }
+
+        public boolean isFresh() {
+            return freshUntil != 0 && freshUntil - System.nanoTime() > 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.hedging")
+public class HedgingProperties {
+
+    private boolean enabled = false;
+    private double percentile = 0.95;
+    private Duration minDelay = Duration.ofMillis(20);
+    private Duration maxDelay = Duration.ofSeconds(1);
+    private long minSamples = 100;
+    private double budgetRatio = 0.05;
+    private int maxBudget = 20;
+    private int maxThreads = 200;
+
+}
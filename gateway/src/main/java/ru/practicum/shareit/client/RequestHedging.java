@@ -0,0 +1,183 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.ServerUnavailableException;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+@Component
+@EnableConfigurationProperties(HedgingProperties.class)
+public class RequestHedging {
+    private static final long BUDGET_UNIT = 1_000;
+    private static final long THRESHOLD_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final HedgingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer latency;
+    private final AtomicLong budget = new AtomicLong();
+    private final long budgetPerRequest;
+    private final long maxBudget;
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter budgetExhausted;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+    private volatile long thresholdNanos;
+    private volatile long thresholdRefreshedAt;
+
+    public RequestHedging(HedgingProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, properties.getMaxThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "gateway-hedging-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.latency = Timer.builder("gateway.hedging.upstream.latency")
+                .publishPercentiles(properties.getPercentile())
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(registry);
+        this.budgetPerRequest = Math.round(properties.getBudgetRatio() * BUDGET_UNIT);
+        this.maxBudget = properties.getMaxBudget() * BUDGET_UNIT;
+        this.requests = registry.counter("gateway.hedging.requests");
+        this.hedges = registry.counter("gateway.hedging.hedges");
+        this.budgetExhausted = registry.counter("gateway.hedging.budget-exhausted");
+        this.primaryWins = registry.counter("gateway.hedging.wins", "attempt", "primary");
+        this.hedgeWins = registry.counter("gateway.hedging.wins", "attempt", "hedge");
+        this.budget.set(maxBudget);
+        this.thresholdNanos = properties.getMaxDelay().toNanos();
+    }
+
+    public <T> ResponseEntity<T> execute(Supplier<ResponseEntity<T>> upstream) {
+        if (!properties.isEnabled()) {
+            return upstream.get();
+        }
+        requests.increment();
+        budget.updateAndGet(current -> Math.min(maxBudget, current + budgetPerRequest));
+
+        CompletableFuture<ResponseEntity<T>> primary;
+        try {
+            primary = submit(upstream, true);
+        } catch (RejectedExecutionException e) {
+            return upstream.get();
+        }
+        try {
+            return primary.get(threshold(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            CompletableFuture<ResponseEntity<T>> hedge = hedge(upstream);
+            if (hedge == null) {
+                return await(primary);
+            }
+            CompletableFuture<ResponseEntity<T>> winner = new CompletableFuture<>();
+            AtomicInteger failures = new AtomicInteger();
+            BiConsumer<ResponseEntity<T>, Throwable> race = (response, error) -> {
+                if (error == null) {
+                    winner.complete(response);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+            };
+            primary.whenComplete(race);
+            hedge.whenComplete(race);
+            ResponseEntity<T> response = await(winner);
+            (!hedge.isCompletedExceptionally() && response == hedge.getNow(null) ? hedgeWins : primaryWins).increment();
+            return response;
+        } catch (ExecutionException e) {
+            return await(primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<ResponseEntity<T>> hedge(Supplier<ResponseEntity<T>> upstream) {
+        if (budget.getAndUpdate(current -> current >= BUDGET_UNIT ? current - BUDGET_UNIT : current) < BUDGET_UNIT) {
+            budgetExhausted.increment();
+            return null;
+        }
+        try {
+            CompletableFuture<ResponseEntity<T>> hedge = submit(upstream, false);
+            hedges.increment();
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            budget.addAndGet(BUDGET_UNIT);
+            return null;
+        }
+    }
+
+    private <T> CompletableFuture<ResponseEntity<T>> submit(Supplier<ResponseEntity<T>> upstream, boolean recordLatency) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!recordLatency) {
+                return upstream.get();
+            }
+            long start = System.nanoTime();
+            try {
+                return upstream.get();
+            } finally {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }, executor);
+    }
+
+    private long threshold() {
+        long now = System.nanoTime();
+        if (now - thresholdRefreshedAt > THRESHOLD_REFRESH_NANOS) {
+            thresholdRefreshedAt = now;
+            long min = properties.getMinDelay().toNanos();
+            long max = properties.getMaxDelay().toNanos();
+            long observed = max;
+            if (latency.count() >= properties.getMinSamples()) {
+                for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                    observed = (long) value.value(TimeUnit.NANOSECONDS);
+                }
+            }
+            thresholdNanos = Math.max(min, Math.min(max, observed));
+        }
+        return thresholdNanos;
+    }
+
+    private static <T> ResponseEntity<T> await(CompletableFuture<ResponseEntity<T>> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted();
+        }
+    }
+
+    private static ServerUnavailableException interrupted() {
+        return new ServerUnavailableException("Interrupted while waiting for the server", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
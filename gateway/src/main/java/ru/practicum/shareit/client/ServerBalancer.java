@@ -0,0 +1,207 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(BalancerProperties.class)
+public class ServerBalancer implements ClientHttpRequestInterceptor {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private final List<Endpoint> endpoints;
+    private final BalancerProperties properties;
+    private final RestTemplate healthCheck;
+
+    public ServerBalancer(@Value("${shareit-server.url}") String serverUrls, BalancerProperties properties,
+                          ClientHttpRequestFactory requestFactory, MeterRegistry registry) {
+        this.endpoints = Arrays.stream(serverUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(Endpoint::new)
+                .collect(Collectors.toList());
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("shareit-server.url must contain at least one server URL");
+        }
+        String basePath = endpoints.get(0).basePath();
+        endpoints.forEach(endpoint -> {
+            if (!endpoint.basePath().equals(basePath)) {
+                throw new IllegalArgumentException("All shareit-server.url entries must share the same base path, but "
+                        + endpoint.baseUrl + " differs from " + endpoints.get(0).baseUrl);
+            }
+        });
+        this.properties = properties;
+        this.healthCheck = new RestTemplate(requestFactory);
+        endpoints.forEach(endpoint -> {
+            Tags tags = Tags.of("endpoint", endpoint.baseUrl);
+            registry.gauge("gateway.balancer.outstanding", tags, endpoint.outstanding);
+            registry.gauge("gateway.balancer.available", tags, endpoint, e -> e.isAvailable(System.nanoTime()) ? 1 : 0);
+        });
+    }
+
+    public String getBaseUrl() {
+        return endpoints.get(0).baseUrl;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        Endpoint endpoint = choose(request.getHeaders().getFirst(USER_HEADER));
+        URI target = endpoint.resolve(request.getURI());
+        endpoint.onStart();
+        try {
+            ClientHttpResponse response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return target;
+                }
+            }, body);
+            if (response.getRawStatusCode() >= 500) {
+                endpoint.onFailure();
+            } else {
+                endpoint.onSuccess();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            endpoint.onFailure();
+            throw e;
+        }
+    }
+
+    private Endpoint choose(@Nullable String userId) {
+        long now = System.nanoTime();
+        List<Endpoint> available = endpoints.stream()
+                .filter(endpoint -> endpoint.isAvailable(now))
+                .collect(Collectors.toList());
+        if (available.isEmpty()) {
+            available = endpoints;
+        }
+        if (available.size() == 1) {
+            return available.get(0);
+        }
+        if (properties.isStickyByUser() && userId != null) {
+            return rendezvous(available, userId);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(available.size());
+        int second = random.nextInt(available.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = available.get(first);
+        Endpoint b = available.get(second);
+        return a.outstanding.get() <= b.outstanding.get() ? a : b;
+    }
+
+    @Scheduled(fixedDelayString = "${shareit-server.balancer.health-check-interval:PT5S}")
+    public void checkHealth() {
+        if (endpoints.size() == 1) {
+            return;
+        }
+        endpoints.forEach(endpoint -> {
+            boolean healthy;
+            try {
+                healthy = healthCheck.getForEntity(endpoint.baseUrl + properties.getHealthCheckPath(), String.class)
+                        .getStatusCode().is2xxSuccessful();
+            } catch (RestClientException e) {
+                healthy = false;
+            }
+            if (endpoint.healthy != healthy) {
+                log.info("Server {} is now {}", endpoint.baseUrl, healthy ? "healthy" : "unhealthy");
+            }
+            endpoint.healthy = healthy;
+        });
+    }
+
+    private static Endpoint rendezvous(List<Endpoint> available, String userId) {
+        Endpoint best = null;
+        int bestScore = Integer.MIN_VALUE;
+        for (Endpoint endpoint : available) {
+            int score = (userId + "@" + endpoint.baseUrl).hashCode() * 0x9E3779B9;
+            if (best == null || score > bestScore) {
+                best = endpoint;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private class Endpoint {
+        private final String baseUrl;
+        private final URI baseUri;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile long ejectedUntil;
+        private volatile boolean healthy = true;
+
+        private Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+            this.baseUri = URI.create(baseUrl);
+        }
+
+        private String basePath() {
+            String path = baseUri.getRawPath() == null ? "" : baseUri.getRawPath();
+            return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        }
+
+        private URI resolve(URI uri) {
+            return UriComponentsBuilder.fromUri(uri)
+                    .scheme(baseUri.getScheme())
+                    .host(baseUri.getHost())
+                    .port(baseUri.getPort())
+                    .build(true)
+                    .toUri();
+        }
+
+        private void onStart() {
+            outstanding.incrementAndGet();
+        }
+
+        private void onSuccess() {
+            outstanding.decrementAndGet();
+            consecutiveFailures.set(0);
+        }
+
+        private void onFailure() {
+            outstanding.decrementAndGet();
+            if (consecutiveFailures.incrementAndGet() >= properties.getMaxConsecutiveFailures()) {
+                consecutiveFailures.set(0);
+                ejectedUntil = System.nanoTime() + properties.getEjectionDuration().toNanos();
+                log.warn("Ejecting server {} for {}", baseUrl, properties.getEjectionDuration());
+            }
+        }
+
+        private boolean isAvailable(long now) {
+            return healthy && ejectedUntil - now <= 0;
+        }
+
+        @Override
+        public String toString() {
+            return baseUrl;
+        }
+    }
+
+}
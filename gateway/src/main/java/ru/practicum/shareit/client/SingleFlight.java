@@ -0,0 +1,79 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlight {
+    private final ConcurrentMap<String, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry registry) {
+        this.enabled = properties.isEnabled();
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.leaders = registry.counter("gateway.single-flight.calls", "role", "leader");
+        this.followers = registry.counter("gateway.single-flight.calls", "role", "follower");
+        this.timeouts = registry.counter("gateway.single-flight.timeouts");
+    }
+
+    public ResponseEntity<Object> execute(String key, Supplier<ResponseEntity<Object>> upstream) {
+        if (!enabled) {
+            return upstream.get();
+        }
+        CompletableFuture<ResponseEntity<Object>> pending = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> leader = inFlight.putIfAbsent(key, pending);
+        if (leader != null) {
+            followers.increment();
+            return await(key, leader);
+        }
+
+        leaders.increment();
+        try {
+            ResponseEntity<Object> response = upstream.get();
+            pending.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private ResponseEntity<Object> await(String key, CompletableFuture<ResponseEntity<Object>> leader) {
+        try {
+            return leader.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.warn("Timed out waiting for in-flight request {}", key);
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
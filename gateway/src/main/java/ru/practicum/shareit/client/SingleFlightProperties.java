@@ -0,0 +1,17 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(10);
+
+}
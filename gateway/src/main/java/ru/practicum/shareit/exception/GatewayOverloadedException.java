@@ -0,0 +1,8 @@
+package ru.practicum.shareit.exception;
+
+public class GatewayOverloadedException extends RuntimeException {
+
+    public GatewayOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ServerUnavailableException extends RuntimeException {
+    private final HttpStatus status;
+
+    public ServerUnavailableException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -1,16 +1,22 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CborTranscoder;
+import ru.practicum.shareit.client.ClientResilience;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.RequestHedging;
+import ru.practicum.shareit.client.ServerBalancer;
+import ru.practicum.shareit.client.SingleFlight;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -18,12 +24,20 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(ServerBalancer balancer, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, CborTranscoder cborTranscoder,
+                      GatewayResponseCache responseCache, SingleFlight singleFlight,
+                      RequestHedging hedging, ClientResilience resilience) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(balancer.getBaseUrl() + API_PREFIX))
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(balancer, cborTranscoder)
+                        .build(),
+                responseCache,
+                singleFlight,
+                hedging,
+                resilience.guard(API_PREFIX.substring(1))
         );
     }
 
@@ -35,12 +49,16 @@ public class ItemClient extends BaseClient {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> findAllItemsByUserId(long userId, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
+    public ResponseEntity<Object> findAllItemsByUserId(long userId, Integer from, Integer size, String after) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "from", from,
                 "size", size
-        );
-        return get("?from={from}&size={size}", userId, parameters);
+        ));
+        if (after == null) {
+            return get("?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("after", after);
+        return get("?from={from}&size={size}&after={after}", userId, parameters);
     }
 
     public ResponseEntity<Object> updateItem(long userId, long itemId, ItemDto itemDto) {
@@ -57,7 +75,7 @@ public class ItemClient extends BaseClient {
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return getShared("/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> createComment(long userId, long itemId, CommentDto commentDto) {
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.Batchable;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
@@ -28,6 +29,7 @@ public class ItemController {
         return itemClient.createItem(userId, itemDto);
     }
 
+    @Batchable
     @GetMapping("/{itemId}")
     public ResponseEntity<Object> findItemById(@RequestHeader("X-Sharer-User-Id") long userId,
                                        @PathVariable long itemId) {
@@ -38,9 +40,10 @@ public class ItemController {
     @GetMapping
     public ResponseEntity<Object> findAllItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
                                           @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
-                                          @Positive @RequestParam(defaultValue = "10") Integer size) {
-        log.info("Get items, userId={}", userId);
-        return itemClient.findAllItemsByUserId(userId, from, size);
+                                          @Positive @RequestParam(defaultValue = "10") Integer size,
+                                          @RequestParam(required = false) String after) {
+        log.info("Get items, userId={}, after={}", userId, after);
+        return itemClient.findAllItemsByUserId(userId, from, size, after);
     }
 
     @PatchMapping("/{itemId}")
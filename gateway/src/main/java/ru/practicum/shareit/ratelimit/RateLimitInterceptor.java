@@ -0,0 +1,117 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerInterceptor;
+import ru.practicum.shareit.exception.GatewayOverloadedException;
+import ru.practicum.shareit.exception.RateLimitExceededException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<RouteClass, RateLimitProperties.Budget> budgets = new EnumMap<>(RouteClass.class);
+    private final Semaphore concurrency;
+    private final int maxQueuedRequests;
+    private final long maxQueueWaitNanos;
+    private final MeterRegistry registry;
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry registry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getBucketIdleTimeout())
+                .build();
+        budgets.put(RouteClass.READ, properties.getRead());
+        budgets.put(RouteClass.SEARCH, properties.getSearch());
+        budgets.put(RouteClass.WRITE, properties.getWrite());
+        this.concurrency = new Semaphore(properties.getMaxConcurrentRequests());
+        this.maxQueuedRequests = properties.getMaxQueuedRequests();
+        this.maxQueueWaitNanos = properties.getMaxQueueWait().toNanos();
+        this.registry = registry;
+        registry.gauge("gateway.admission.in-flight", concurrency,
+                semaphore -> properties.getMaxConcurrentRequests() - semaphore.availablePermits());
+        registry.gauge("gateway.admission.queued", concurrency, Semaphore::getQueueLength);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            // async dispatch of a request that was already charged and admitted
+            return true;
+        }
+        RouteClass routeClass = RouteClass.of(request);
+        if (!RouteClass.isBatch(request)) {
+            acquire(request, routeClass, 1);
+        }
+
+        admit(routeClass);
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Charges {@code permits} tokens to the caller's bucket for the route class. Batches are charged here,
+     * once per sub-request, after their body has been read.
+     */
+    public void acquire(HttpServletRequest request, RouteClass routeClass, int permits) {
+        TokenBucket bucket = buckets.get(clientKey(request) + ":" + routeClass, key -> newBucket(routeClass));
+        long waitNanos = bucket.tryAcquire(System.nanoTime(), permits);
+        if (waitNanos > 0) {
+            count("gateway.rate-limit.decisions", routeClass, "rejected");
+            throw new RateLimitExceededException("Too many requests",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+        count("gateway.rate-limit.decisions", routeClass, "allowed");
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                @Nullable Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            concurrency.release();
+        }
+    }
+
+    private void admit(RouteClass routeClass) {
+        if (concurrency.tryAcquire()) {
+            count("gateway.admission.decisions", routeClass, "admitted");
+            return;
+        }
+        try {
+            if (concurrency.getQueueLength() < maxQueuedRequests
+                    && concurrency.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS)) {
+                count("gateway.admission.decisions", routeClass, "admitted");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        count("gateway.admission.decisions", routeClass, "shed");
+        throw new GatewayOverloadedException("Gateway is overloaded");
+    }
+
+    private TokenBucket newBucket(RouteClass routeClass) {
+        RateLimitProperties.Budget budget = budgets.get(routeClass);
+        return new TokenBucket(budget.getPermitsPerSecond(), budget.getBurst());
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String userId = request.getHeader(SHARER_USER_ID);
+        return userId != null ? "user:" + userId : "addr:" + request.getRemoteAddr();
+    }
+
+    private void count(String name, RouteClass routeClass, String outcome) {
+        registry.counter(name, "route", routeClass.name().toLowerCase(), "outcome", outcome).increment();
+    }
+}
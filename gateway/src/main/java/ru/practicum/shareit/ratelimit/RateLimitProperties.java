@@ -0,0 +1,38 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Budget read = new Budget(50, 100);
+    private Budget search = new Budget(5, 20);
+    private Budget write = new Budget(10, 20);
+    private long maxBuckets = 100_000;
+    private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+    private int maxConcurrentRequests = 200;
+    private int maxQueuedRequests = 100;
+    private Duration maxQueueWait = Duration.ofMillis(500);
+
+    @Getter
+    @Setter
+    public static class Budget {
+        private double permitsPerSecond;
+        private int burst;
+
+        public Budget() {
+        }
+
+        public Budget(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
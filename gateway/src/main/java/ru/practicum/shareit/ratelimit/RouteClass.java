@@ -0,0 +1,23 @@
+package ru.practicum.shareit.ratelimit;
+
+import javax.servlet.http.HttpServletRequest;
+
+public enum RouteClass {
+    READ,
+    SEARCH,
+    WRITE;
+
+    public static RouteClass of(HttpServletRequest request) {
+        if (isBatch(request)) {
+            return READ;
+        }
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return WRITE;
+        }
+        return request.getRequestURI().endsWith("/search") ? SEARCH : READ;
+    }
+
+    public static boolean isBatch(HttpServletRequest request) {
+        return request.getRequestURI().endsWith("/batch");
+    }
+}
@@ -1,15 +1,21 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CborTranscoder;
+import ru.practicum.shareit.client.ClientResilience;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.RequestHedging;
+import ru.practicum.shareit.client.ServerBalancer;
+import ru.practicum.shareit.client.SingleFlight;
 import ru.practicum.shareit.request.dto.RequestDto;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -17,12 +23,20 @@ public class RequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public RequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public RequestClient(ServerBalancer balancer, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory, CborTranscoder cborTranscoder,
+                         GatewayResponseCache responseCache, SingleFlight singleFlight,
+                         RequestHedging hedging, ClientResilience resilience) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(balancer.getBaseUrl() + API_PREFIX))
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(balancer, cborTranscoder)
+                        .build(),
+                responseCache,
+                singleFlight,
+                hedging,
+                resilience.guard(API_PREFIX.substring(1))
         );
     }
 
@@ -38,12 +52,16 @@ public class RequestClient extends BaseClient {
         return get("/" + requestId, userId);
     }
 
-    public ResponseEntity<Object> findAllRequest(long userId, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
+    public ResponseEntity<Object> findAllRequest(long userId, Integer from, Integer size, String after) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "from", from,
                 "size", size
-        );
-        return get("/all?from={from}&size={size}", userId, parameters);
+        ));
+        if (after == null) {
+            return get("/all?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("after", after);
+        return get("/all?from={from}&size={size}&after={after}", userId, parameters);
     }
 
 }
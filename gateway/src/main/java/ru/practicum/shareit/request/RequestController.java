@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.Batchable;
 import ru.practicum.shareit.request.dto.RequestDto;
 
 import javax.validation.Valid;
@@ -33,6 +34,7 @@ public class RequestController {
         return requestClient.findRequestsById(userId);
     }
 
+    @Batchable
     @GetMapping("/{requestId}")
     public ResponseEntity<Object> findRequestById(@RequestHeader("X-Sharer-User-Id") long userId,
                                                   @PathVariable long requestId) {
@@ -43,9 +45,10 @@ public class RequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> findAllRequest(@RequestHeader("X-Sharer-User-Id") long userId,
                                                  @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
-                                                 @Positive @RequestParam(defaultValue = "10") Integer size) {
-        log.info("Get all requests, userId={}", userId);
-        return requestClient.findAllRequest(userId, from, size);
+                                                 @Positive @RequestParam(defaultValue = "10") Integer size,
+                                                 @RequestParam(required = false) String after) {
+        log.info("Get all requests, userId={}, after={}", userId, after);
+        return requestClient.findAllRequest(userId, from, size, after);
     }
 
 }
@@ -1,13 +1,18 @@
 package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CborTranscoder;
+import ru.practicum.shareit.client.ClientResilience;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.RequestHedging;
+import ru.practicum.shareit.client.ServerBalancer;
+import ru.practicum.shareit.client.SingleFlight;
 import ru.practicum.shareit.user.dto.UserDto;
 
 @Service
@@ -15,12 +20,20 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(ServerBalancer balancer, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, CborTranscoder cborTranscoder,
+                      GatewayResponseCache responseCache, SingleFlight singleFlight,
+                      RequestHedging hedging, ClientResilience resilience) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(balancer.getBaseUrl() + API_PREFIX))
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(balancer, cborTranscoder)
+                        .build(),
+                responseCache,
+                singleFlight,
+                hedging,
+                resilience.guard(API_PREFIX.substring(1))
         );
     }
 
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.Batchable;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.Valid;
@@ -24,6 +25,7 @@ public class UserController {
         return userClient.createUser(userDto);
     }
 
+    @Batchable
     @GetMapping("/{userId}")
     public ResponseEntity<Object> findUserById(@PathVariable long userId) {
         log.info("Get user {}", userId);
@@ -0,0 +1,39 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "shareit-server.url=http://localhost:1",
+        "shareit-server.balancer.health-check-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void exposesGatewayMetrics() throws Exception {
+        for (String metric : List.of(
+                "cache.gets?tag=cache:gateway-responses",
+                "gateway.single-flight.calls",
+                "gateway.admission.in-flight",
+                "gateway.balancer.outstanding",
+                "gateway.hedging.requests",
+                "resilience4j.circuitbreaker.state")) {
+            mvc.perform(get("/actuator/metrics/" + metric))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.measurements").isNotEmpty());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.batch.dto.BatchDto;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.ratelimit.RateLimitConfig;
+import ru.practicum.shareit.request.RequestClient;
+import ru.practicum.shareit.request.RequestController;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.UserController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {BatchController.class, ItemController.class, UserController.class,
+        RequestController.class, BookingController.class}, properties = {
+        "gateway.rate-limit.read.permits-per-second=0.1",
+        "gateway.rate-limit.read.burst=30"
+})
+@Import({BatchRequestValidator.class, RateLimitConfig.class, SimpleMeterRegistry.class})
+class BatchControllerTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @MockBean
+    private BatchClient batchClient;
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @MockBean
+    private UserClient userClient;
+
+    @MockBean
+    private RequestClient requestClient;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void chargesRateLimitOncePerSubRequest() throws Exception {
+        when(batchClient.execute(anyLong(), anyList())).thenReturn(ResponseEntity.ok("[]"));
+        String batch = mapper.writeValueAsString(new BatchDto(IntStream.range(0, 20)
+                .mapToObj(i -> new BatchRequestDto("item" + i, "GET", "/items/" + i))
+                .collect(Collectors.toList())));
+
+        mvc.perform(post("/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(batch)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(batch)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void acceptsSubRequestsForEveryBatchableHandler() throws Exception {
+        when(batchClient.execute(anyLong(), anyList())).thenReturn(ResponseEntity.ok("[]"));
+
+        mvc.perform(post("/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(mapper.writeValueAsString(new BatchDto(List.of(
+                                new BatchRequestDto("item", "GET", "/items/1"),
+                                new BatchRequestDto("user", "GET", "/users/2"),
+                                new BatchRequestDto("request", "GET", "/requests/3"),
+                                new BatchRequestDto("booking", "GET", "/bookings/4")))))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsSubRequestsThatNoBatchableHandlerAccepts() throws Exception {
+        for (BatchRequestDto subRequest : List.of(
+                new BatchRequestDto("write", "DELETE", "/users/1"),
+                new BatchRequestDto("search", "GET", "/items/search"),
+                new BatchRequestDto("list", "GET", "/items"),
+                new BatchRequestDto("unknown", "GET", "/unknown/1"),
+                new BatchRequestDto("nested", "GET", "/batch/1"))) {
+            mvc.perform(post("/batch")
+                            .header("X-Sharer-User-Id", 1L)
+                            .content(mapper.writeValueAsString(new BatchDto(List.of(subRequest))))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
+        }
+        verify(batchClient, never()).execute(anyLong(), anyList());
+    }
+
+    @Test
+    void rejectsSubRequestWhosePathVariableTheHandlerCannotConvert() throws Exception {
+        mvc.perform(post("/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(mapper.writeValueAsString(new BatchDto(List.of(
+                                new BatchRequestDto("item", "GET", "/items/abc")))))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        verify(batchClient, never()).execute(anyLong(), anyList());
+    }
+}
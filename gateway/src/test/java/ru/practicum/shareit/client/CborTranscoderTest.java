@@ -0,0 +1,52 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CborTranscoderTest {
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void cborResponseIsTranscodedToJson() throws Exception {
+        Map<String, Object> booking = Map.of(
+                "id", 1,
+                "start", "2030-01-01T10:00:00",
+                "item", Map.of("id", 2, "name", "Дрель"),
+                "tags", List.of(true, 1.5));
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/bookings/1"));
+
+        ClientHttpResponse response = new CborTranscoder(true).intercept(request, new byte[0], (req, body) -> {
+            MockClientHttpResponse cborResponse = new MockClientHttpResponse(cbor.writeValueAsBytes(booking), HttpStatus.OK);
+            cborResponse.getHeaders().setContentType(MediaType.APPLICATION_CBOR);
+            return cborResponse;
+        });
+
+        assertEquals(MediaType.APPLICATION_CBOR, request.getHeaders().getAccept().get(0));
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(json.valueToTree(booking), json.readTree(StreamUtils.copyToByteArray(response.getBody())));
+    }
+
+    @Test
+    void jsonResponseIsPassedThrough() throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/users/1"));
+        MockClientHttpResponse jsonResponse = new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK);
+        jsonResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        assertEquals(jsonResponse, new CborTranscoder(true).intercept(request, new byte[0], (req, body) -> jsonResponse));
+    }
+}
@@ -0,0 +1,166 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.exception.ServerUnavailableException;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.request.RequestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "shareit-server.http-client.read-timeout=300ms",
+        "shareit-server.resilience.max-concurrent-calls=2",
+        "shareit-server.resilience.sliding-window-size=4",
+        "shareit-server.resilience.minimum-number-of-calls=4",
+        "shareit-server.resilience.slow-call-duration-threshold=200ms",
+        "shareit-server.resilience.wait-duration-in-open-state=1m"
+})
+class ClientResilienceTest {
+    private static final long LATENCY_MILLIS = 1_000;
+    private static final HttpServer SERVER = startServer();
+    private static final AtomicInteger BOOKING_CALLS = new AtomicInteger();
+    private static final CountDownLatch REQUESTS_IN_FLIGHT = new CountDownLatch(2);
+
+    @Autowired
+    private BookingClient bookingClient;
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @Autowired
+    private RequestClient requestClient;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    void slowBookingsOpenTheirBreakerWithoutAffectingItems() {
+        for (int i = 0; i < 4; i++) {
+            long bookingId = i;
+            ServerUnavailableException e = assertThrows(ServerUnavailableException.class,
+                    () -> bookingClient.findBooking(1L, bookingId));
+            assertEquals(HttpStatus.BAD_GATEWAY, e.getStatus());
+        }
+        int callsBeforeOpen = BOOKING_CALLS.get();
+
+        ServerUnavailableException rejected = assertThrows(ServerUnavailableException.class,
+                () -> bookingClient.findBooking(1L, 5L));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+        assertEquals(callsBeforeOpen, BOOKING_CALLS.get());
+        assertEquals(HttpStatus.OK, itemClient.findItemById(1L, 1L).getStatusCode());
+    }
+
+    @Test
+    void bulkheadRejectsCallsAboveConcurrencyLimit() throws Exception {
+        CompletableFuture<?> first = CompletableFuture.runAsync(() -> callQuietly(1L));
+        CompletableFuture<?> second = CompletableFuture.runAsync(() -> callQuietly(2L));
+        assertTrue(REQUESTS_IN_FLIGHT.await(5, TimeUnit.SECONDS));
+
+        ServerUnavailableException rejected = assertThrows(ServerUnavailableException.class,
+                () -> requestClient.findRequestsById(1L, 3L));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void unexpectedExceptionIsRecordedAsFailureAndRethrown() {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.setSlidingWindowSize(2);
+        properties.setMinimumNumberOfCalls(2);
+        ClientResilience.Guard guard = new ClientResilience(properties, new SimpleMeterRegistry()).guard("unexpected");
+        IllegalStateException failure = new IllegalStateException("no healthy endpoint");
+
+        for (int i = 0; i < 2; i++) {
+            IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                    () -> guard.call(() -> {
+                        throw failure;
+                    }));
+            assertSame(failure, thrown);
+        }
+
+        ServerUnavailableException rejected = assertThrows(ServerUnavailableException.class,
+                () -> guard.call(() -> ResponseEntity.ok().build()));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+    }
+
+    private void callQuietly(long requestId) {
+        try {
+            requestClient.findRequestsById(1L, requestId);
+        } catch (ServerUnavailableException ignored) {
+            // the stub is slower than the read timeout
+        }
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/bookings", exchange -> {
+                BOOKING_CALLS.incrementAndGet();
+                respondSlowly(exchange);
+            });
+            server.createContext("/requests", exchange -> {
+                REQUESTS_IN_FLIGHT.countDown();
+                respondSlowly(exchange);
+            });
+            server.createContext("/items", exchange -> respond(exchange, "{\"id\":1}"));
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respondSlowly(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, "{}");
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } catch (IOException ignored) {
+            // the gateway may already have timed out and closed the connection
+        }
+    }
+}
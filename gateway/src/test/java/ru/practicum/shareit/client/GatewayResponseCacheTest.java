@@ -0,0 +1,168 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.request.RequestClient;
+import ru.practicum.shareit.request.dto.RequestDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "shareit-server.response-cache.time-to-live=300ms",
+        "shareit-server.balancer.health-check-interval=PT1H"
+})
+class GatewayResponseCacheTest {
+    private static final String ETAG = "\"v1\"";
+    private static final byte[] BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final HttpServer SERVER = startServer();
+    private static final List<String> GETS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @Autowired
+    private RequestClient requestClient;
+
+    @Autowired
+    private GatewayResponseCache responseCache;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void clear() {
+        responseCache.invalidateAll();
+        GETS.clear();
+    }
+
+    @Test
+    void servesRepeatedGetFromCacheWithinTimeToLive() {
+        itemClient.findItemById(1L, 1L);
+        ResponseEntity<Object> cached = itemClient.findItemById(1L, 1L);
+
+        assertEquals(1, GETS.size());
+        assertEquals(HttpStatus.OK, cached.getStatusCode());
+        assertArrayEquals(BODY, (byte[]) cached.getBody());
+    }
+
+    @Test
+    void revalidatesExpiredEntryWithETag() throws InterruptedException {
+        itemClient.findItemById(1L, 1L);
+        Thread.sleep(400);
+
+        ResponseEntity<Object> revalidated = itemClient.findItemById(1L, 1L);
+
+        assertEquals(List.of("", ETAG), GETS);
+        assertEquals(HttpStatus.OK, revalidated.getStatusCode());
+        assertArrayEquals(BODY, (byte[]) revalidated.getBody());
+    }
+
+    @Test
+    void invalidatesCachedGetsAfterWrite() {
+        itemClient.findItemById(1L, 1L);
+        itemClient.updateItem(1L, 1L, new ItemDto("renamed", null, null, null));
+
+        itemClient.findItemById(1L, 1L);
+
+        assertEquals(List.of("", ""), GETS);
+    }
+
+    @Test
+    void invalidatesOtherUsersViewsOfWrittenResource() {
+        itemClient.findItemById(2L, 1L);
+        itemClient.updateItem(1L, 1L, new ItemDto("renamed", null, null, null));
+
+        itemClient.findItemById(2L, 1L);
+
+        assertEquals(List.of("", ""), GETS);
+    }
+
+    @Test
+    void keepsUnrelatedResourcesCachedAfterWrite() {
+        itemClient.findItemById(1L, 1L);
+        requestClient.createRequest(1L, new RequestDto("need a drill"));
+
+        itemClient.findItemById(1L, 1L);
+
+        assertEquals(List.of(""), GETS);
+    }
+
+    @Test
+    void sharesSearchResultsBetweenUsers() {
+        itemClient.getItemsBySearchQuery(1L, "drill", 0, 10);
+        ResponseEntity<Object> shared = itemClient.getItemsBySearchQuery(2L, "drill", 0, 10);
+
+        assertEquals(1, GETS.size());
+        assertArrayEquals(BODY, (byte[]) shared.getBody());
+    }
+
+    @Test
+    void keepsItemResponsesPerUser() {
+        itemClient.findItemById(1L, 1L);
+        itemClient.findItemById(2L, 1L);
+
+        assertEquals(2, GETS.size());
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/actuator/health", exchange -> respond(exchange, 200, new byte[0]));
+            server.createContext("/requests", exchange -> respond(exchange, 201, BODY));
+            server.createContext("/items", exchange -> {
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    respond(exchange, 200, BODY);
+                    return;
+                }
+                String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+                GETS.add(ifNoneMatch == null ? "" : ifNoneMatch);
+                if (ETAG.equals(ifNoneMatch)) {
+                    exchange.getResponseHeaders().add("ETag", ETAG);
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+                respond(exchange, 200, BODY);
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
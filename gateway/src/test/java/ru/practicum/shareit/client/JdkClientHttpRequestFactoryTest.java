@@ -0,0 +1,103 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JdkClientHttpRequestFactoryTest {
+    private static final HttpServer SERVER = startServer();
+
+    private final RestTemplate rest = new RestTemplate(new JdkClientHttpRequestFactory(
+            HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build(), Duration.ofSeconds(5)));
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    void sendsHeadersAndBodyAndReadsResponse() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Sharer-User-Id", "7");
+
+        ResponseEntity<String> response = rest.exchange(url("/echo"), HttpMethod.POST,
+                new HttpEntity<>("{\"name\":\"Дрель\"}", headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("7", response.getHeaders().getFirst("X-Sharer-User-Id"));
+        assertEquals("{\"name\":\"Дрель\"}", response.getBody());
+    }
+
+    @Test
+    void dropsHeadersRestrictedByHttpClient() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.UPGRADE, "websocket");
+        headers.set(HttpHeaders.CONNECTION, "Upgrade");
+        headers.set(HttpHeaders.EXPECT, "100-continue");
+        headers.set(HttpHeaders.HOST, "example.com");
+        headers.set(HttpHeaders.DATE, "Tue, 15 Nov 1994 08:12:31 GMT");
+        headers.set(HttpHeaders.VIA, "1.1 proxy");
+        headers.set("X-Sharer-User-Id", "7");
+
+        ResponseEntity<String> response = rest.exchange(url("/echo"), HttpMethod.POST,
+                new HttpEntity<>("{}", headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("7", response.getHeaders().getFirst("X-Sharer-User-Id"));
+        assertNotEquals("websocket", response.getHeaders().getFirst("X-Upgrade"));
+    }
+
+    @Test
+    void errorStatusIsReported() {
+        HttpClientErrorException e = assertThrows(HttpClientErrorException.class,
+                () -> rest.getForEntity(url("/missing"), String.class));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+    }
+
+    private static String url(String path) {
+        return "http://localhost:" + SERVER.getAddress().getPort() + path;
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                int status = "/echo".equals(exchange.getRequestURI().getPath()) ? 200 : 404;
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+                exchange.getResponseHeaders().add("X-Sharer-User-Id",
+                        String.valueOf(exchange.getRequestHeaders().getFirst("X-Sharer-User-Id")));
+                exchange.getResponseHeaders().add("X-Upgrade",
+                        String.valueOf(exchange.getRequestHeaders().getFirst("Upgrade")));
+                exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestHedgingTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private RequestHedging hedging;
+
+    @BeforeEach
+    void setUp() {
+        HedgingProperties properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setMinDelay(Duration.ofMillis(50));
+        properties.setMaxDelay(Duration.ofMillis(50));
+        properties.setBudgetRatio(0.1);
+        properties.setMaxBudget(1);
+        hedging = new RequestHedging(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedging.shutdown();
+    }
+
+    @Test
+    void slowPrimaryIsOvertakenByHedge() {
+        long start = System.nanoTime();
+
+        ResponseEntity<String> response = hedging.execute(this::firstAttemptStalls);
+
+        assertEquals("attempt 2", response.getBody());
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+        assertEquals(1, registry.counter("gateway.hedging.hedges").count());
+        assertEquals(1, registry.counter("gateway.hedging.wins", "attempt", "hedge").count());
+    }
+
+    @Test
+    void hedgesAreLimitedByBudget() {
+        hedging.execute(this::firstAttemptStalls);
+        attempts.set(0);
+
+        ResponseEntity<String> response = hedging.execute(this::firstAttemptStalls);
+
+        assertEquals("attempt 1", response.getBody());
+        assertEquals(1, registry.counter("gateway.hedging.hedges").count());
+        assertEquals(1, registry.counter("gateway.hedging.budget-exhausted").count());
+    }
+
+    @Test
+    void hedgeWinsWhenPrimaryFailsLater() {
+        ResponseEntity<String> response = hedging.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(200);
+                throw new IllegalStateException("primary failed");
+            }
+            sleep(400);
+            return ResponseEntity.ok("hedge");
+        });
+
+        assertEquals("hedge", response.getBody());
+        assertEquals(1, registry.counter("gateway.hedging.wins", "attempt", "hedge").count());
+    }
+
+    @Test
+    void primaryWinsWhenHedgeFails() {
+        ResponseEntity<String> response = hedging.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(300);
+                return ResponseEntity.ok("primary");
+            }
+            throw new IllegalStateException("hedge failed");
+        });
+
+        assertEquals("primary", response.getBody());
+        assertEquals(1, registry.counter("gateway.hedging.wins", "attempt", "primary").count());
+    }
+
+    @Test
+    void failsOnlyWhenBothAttemptsFail() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> hedging.execute(() -> {
+            int attempt = attempts.incrementAndGet();
+            sleep(attempt == 1 ? 200 : 50);
+            throw new IllegalStateException("attempt " + attempt + " failed");
+        }));
+
+        assertTrue(e.getMessage().endsWith("failed"));
+        assertEquals(2, attempts.get());
+    }
+
+    private ResponseEntity<String> firstAttemptStalls() {
+        int attempt = attempts.incrementAndGet();
+        if (attempt == 1) {
+            sleep(2_000);
+        }
+        return ResponseEntity.ok("attempt " + attempt);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
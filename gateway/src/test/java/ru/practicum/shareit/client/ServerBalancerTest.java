@@ -0,0 +1,170 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.item.ItemClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "shareit-server.response-cache.enabled=false",
+        "shareit-server.balancer.health-check-interval=PT1H",
+        "shareit-server.balancer.max-consecutive-failures=2",
+        "shareit-server.balancer.ejection-duration=1h",
+        "shareit-server.resilience.minimum-number-of-calls=100"
+})
+class ServerBalancerTest {
+    private static final StubServer FIRST = new StubServer();
+    private static final StubServer SECOND = new StubServer();
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @Autowired
+    private ServerBalancer balancer;
+
+    @DynamicPropertySource
+    static void serverUrls(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> FIRST.url() + ", " + SECOND.url());
+    }
+
+    @AfterAll
+    static void stopServers() {
+        FIRST.server.stop(0);
+        SECOND.server.stop(0);
+    }
+
+    @BeforeEach
+    void resetServers() {
+        FIRST.reset();
+        SECOND.reset();
+        balancer.checkHealth();
+    }
+
+    @Test
+    void spreadsRequestsAcrossHealthyServers() {
+        for (long i = 0; i < 40; i++) {
+            assertEquals(HttpStatus.OK, itemClient.findItemById(i, 1L).getStatusCode());
+        }
+
+        assertTrue(FIRST.calls.get() > 0);
+        assertTrue(SECOND.calls.get() > 0);
+        assertEquals(40, FIRST.calls.get() + SECOND.calls.get());
+    }
+
+    @Test
+    void stopsRoutingToServerThatFailsHealthCheck() {
+        SECOND.healthStatus = 503;
+        balancer.checkHealth();
+
+        for (long i = 0; i < 10; i++) {
+            itemClient.findItemById(i, 1L);
+        }
+
+        assertEquals(10, FIRST.calls.get());
+        assertEquals(0, SECOND.calls.get());
+    }
+
+    @Test
+    @DirtiesContext
+    void ejectsServerAfterConsecutiveErrors() {
+        FIRST.responseStatus = 500;
+
+        for (long i = 0; i < 20; i++) {
+            itemClient.findItemById(i, 1L);
+        }
+
+        assertEquals(2, FIRST.calls.get());
+        assertEquals(18, SECOND.calls.get());
+    }
+
+    @Test
+    void rejectsServersWithDifferentBasePaths() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+
+        assertThrows(IllegalArgumentException.class, () -> new ServerBalancer("http://a:9090/api, http://b:9090/v2",
+                new BalancerProperties(), requestFactory, new SimpleMeterRegistry()));
+        assertDoesNotThrow(() -> new ServerBalancer("http://a:9090/api, http://b:9090/api/",
+                new BalancerProperties(), requestFactory, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void releasesOutstandingRequestWhenExecutionThrowsRuntimeException() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ServerBalancer single = new ServerBalancer("http://a:9090", new BalancerProperties(),
+                new SimpleClientHttpRequestFactory(), registry);
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://a:9090/items/1"));
+
+        assertThrows(IllegalStateException.class, () -> single.intercept(request, new byte[0], (r, b) -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, registry.get("gateway.balancer.outstanding").gauge().value());
+    }
+
+    private static class StubServer {
+        private final HttpServer server;
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile int healthStatus;
+        private volatile int responseStatus;
+
+        StubServer() {
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            server.createContext("/actuator/health", exchange -> respond(exchange, healthStatus));
+            server.createContext("/items", exchange -> {
+                calls.incrementAndGet();
+                respond(exchange, responseStatus);
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            reset();
+        }
+
+        String url() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        void reset() {
+            calls.set(0);
+            healthStatus = 200;
+            responseStatus = 200;
+        }
+
+        private static void respond(HttpExchange exchange, int status) throws IOException {
+            byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        SingleFlightProperties properties = new SingleFlightProperties();
+        properties.setTimeout(Duration.ofSeconds(5));
+        singleFlight = new SingleFlight(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneUpstreamCall() throws Exception {
+        List<Future<ResponseEntity<Object>>> results = callConcurrently(() -> {
+            upstreamCalls.incrementAndGet();
+            awaitRelease();
+            return ResponseEntity.ok("items");
+        });
+
+        for (Future<ResponseEntity<Object>> result : results) {
+            assertEquals("items", result.get(5, TimeUnit.SECONDS).getBody());
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, registry.counter("gateway.single-flight.calls", "role", "leader").count());
+        assertEquals(CALLERS - 1, registry.counter("gateway.single-flight.calls", "role", "follower").count());
+    }
+
+    @Test
+    void upstreamFailureReachesEveryWaiter() throws Exception {
+        List<Future<ResponseEntity<Object>>> results = callConcurrently(() -> {
+            upstreamCalls.incrementAndGet();
+            awaitRelease();
+            throw new IllegalStateException("server down");
+        });
+
+        for (Future<ResponseEntity<Object>> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("server down", e.getCause().getMessage());
+        }
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void nextCallAfterCompletionGoesUpstreamAgain() {
+        release.countDown();
+        Supplier<ResponseEntity<Object>> upstream = () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok("items");
+        };
+
+        singleFlight.execute("/items/search?text=drill", upstream);
+        singleFlight.execute("/items/search?text=drill", upstream);
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private List<Future<ResponseEntity<Object>>> callConcurrently(Supplier<ResponseEntity<Object>> upstream)
+            throws InterruptedException {
+        List<Future<ResponseEntity<Object>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("/items/search?text=drill", upstream)));
+        }
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.counter("gateway.single-flight.calls", "role", "follower").count() < CALLERS - 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
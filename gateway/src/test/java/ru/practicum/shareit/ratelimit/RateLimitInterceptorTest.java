@@ -0,0 +1,122 @@
+package ru.practicum.shareit.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.exception.ErrorHandler;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RateLimitInterceptorTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch asyncRelease = new CountDownLatch(1);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Budget(0.1, 2));
+        properties.setSearch(new RateLimitProperties.Budget(0.1, 1));
+        properties.setWrite(new RateLimitProperties.Budget(0.1, 1));
+        properties.setMaxConcurrentRequests(1);
+        properties.setMaxQueuedRequests(0);
+        properties.setMaxQueueWait(Duration.ZERO);
+        mvc = MockMvcBuilders.standaloneSetup(new StubController())
+                .setControllerAdvice(new ErrorHandler())
+                .addMappedInterceptors(new String[]{"/items/**"}, new RateLimitInterceptor(properties, registry))
+                .build();
+    }
+
+    @Test
+    void rejectsRequestsBeyondBurstWithRetryAfter() throws Exception {
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 1))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"));
+    }
+
+    @Test
+    void keepsSeparateBucketsPerRouteClassAndUser() throws Exception {
+        mvc.perform(get("/items/search").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+        mvc.perform(get("/items/search").header("X-Sharer-User-Id", 1)).andExpect(status().isTooManyRequests());
+
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+        mvc.perform(post("/items").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+        mvc.perform(get("/items/search").header("X-Sharer-User-Id", 2)).andExpect(status().isOk());
+    }
+
+    @Test
+    void releasesPermitWhenHandlerThrows() throws Exception {
+        assertThrows(Exception.class, () -> mvc.perform(get("/items/fail").header("X-Sharer-User-Id", 1)));
+
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 2)).andExpect(status().isOk());
+    }
+
+    @Test
+    void holdsPermitUntilAsyncRequestCompletes() throws Exception {
+        MvcResult started = mvc.perform(get("/items/async").header("X-Sharer-User-Id", 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 2)).andExpect(status().isServiceUnavailable());
+
+        asyncRelease.countDown();
+        started.getAsyncResult(5_000);
+        mvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 2)).andExpect(status().isOk());
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+    }
+
+    @RestController
+    class StubController {
+
+        @GetMapping("/items/{id}")
+        public String findItem(@PathVariable long id) {
+            return "item " + id;
+        }
+
+        @GetMapping("/items/search")
+        public String search() {
+            return "[]";
+        }
+
+        @PostMapping("/items")
+        public String create() {
+            return "created";
+        }
+
+        @GetMapping("/items/fail")
+        public String fail() {
+            throw new IllegalStateException("handler failed");
+        }
+
+        @GetMapping("/items/async")
+        public Callable<String> async() {
+            return () -> {
+                asyncRelease.await(5, TimeUnit.SECONDS);
+                return "done";
+            };
+        }
+    }
+}
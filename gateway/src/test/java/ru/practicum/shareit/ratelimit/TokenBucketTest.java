@@ -0,0 +1,62 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final long START = 42 * SECOND;
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(2, 3);
+
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(SECOND / 2, bucket.tryAcquire(START));
+    }
+
+    @Test
+    void refillsOnePermitPerEmissionInterval() {
+        TokenBucket bucket = new TokenBucket(2, 1);
+
+        assertEquals(0, bucket.tryAcquire(START));
+        assertTrue(bucket.tryAcquire(START + SECOND / 4) > 0);
+        assertEquals(0, bucket.tryAcquire(START + SECOND / 2));
+        assertEquals(SECOND / 2, bucket.tryAcquire(START + SECOND / 2));
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateBeyondBurst() {
+        TokenBucket bucket = new TokenBucket(1, 2);
+        bucket.tryAcquire(START);
+
+        long later = START + 60 * SECOND;
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(SECOND, bucket.tryAcquire(later));
+    }
+
+    @Test
+    void rejectedRequestDoesNotConsumeAPermit() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        bucket.tryAcquire(START);
+
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        assertEquals(0, bucket.tryAcquire(START + SECOND));
+    }
+
+    @Test
+    void chargesSeveralPermitsAtOnce() {
+        TokenBucket bucket = new TokenBucket(1, 5);
+
+        assertEquals(0, bucket.tryAcquire(START, 4));
+        assertEquals(SECOND, bucket.tryAcquire(START, 2));
+        assertEquals(0, bucket.tryAcquire(START, 1));
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+import ru.practicum.shareit.batch.service.BatchService;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping(path = "/batch")
+@RequiredArgsConstructor
+public class BatchController {
+    private final BatchService batchService;
+
+    @PostMapping
+    public List<BatchResponseDto> execute(@RequestHeader("X-Sharer-User-Id") long userId,
+                                          @RequestBody List<BatchRequestDto> requests) {
+        log.debug("поступил пакетный запрос из {} подзапросов от пользователя c id: {} ", requests.size(), userId);
+        return batchService.execute(userId, requests);
+    }
+}
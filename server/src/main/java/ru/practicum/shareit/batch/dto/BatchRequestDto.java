@@ -0,0 +1,16 @@
+package ru.practicum.shareit.batch.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchRequestDto {
+
+    private String id;
+    private String method;
+    private String path;
+
+}
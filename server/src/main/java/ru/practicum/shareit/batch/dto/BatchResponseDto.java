@@ -0,0 +1,16 @@
+package ru.practicum.shareit.batch.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchResponseDto {
+
+    private String id;
+    private int status;
+    private Object body;
+
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.batch.service;
+
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+
+import java.util.List;
+
+public interface BatchService {
+
+    List<BatchResponseDto> execute(long userId, List<BatchRequestDto> requests);
+
+}
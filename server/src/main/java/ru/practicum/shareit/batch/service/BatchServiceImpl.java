@@ -0,0 +1,129 @@
+package ru.practicum.shareit.batch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BatchTooLargeException;
+import ru.practicum.shareit.exception.ErrorResponse;
+import ru.practicum.shareit.exception.NotAvailableException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.NotOwnerException;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.service.RequestService;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the independent reads of a batch concurrently, each in its own transaction, on a bounded pool. When the pool
+ * and its queue are full the sub-request runs on the calling thread, so a burst of batches degrades to sequential
+ * execution instead of being rejected.
+ */
+@Slf4j
+@Service
+public class BatchServiceImpl implements BatchService {
+    private static final int MAX_REQUESTS = 20;
+    private static final String BATCH_TOO_LARGE = "Пакет содержит %d подзапросов, допустимо не более %d.";
+    private static final Pattern RESOURCE_PATH = Pattern.compile("^/(items|users|requests|bookings)/(\\d+)$");
+
+    private final ItemService itemService;
+    private final UserService userService;
+    private final RequestService requestService;
+    private final BookingService bookingService;
+    private final ThreadPoolExecutor executor;
+
+    public BatchServiceImpl(ItemService itemService, UserService userService, RequestService requestService,
+                            BookingService bookingService, @Value("${shareit.batch.threads:4}") int threads) {
+        this.itemService = itemService;
+        this.userService = userService;
+        this.requestService = requestService;
+        this.bookingService = bookingService;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * MAX_REQUESTS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "batch-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public List<BatchResponseDto> execute(long userId, List<BatchRequestDto> requests) {
+        if (requests.size() > MAX_REQUESTS) {
+            throw new BatchTooLargeException(String.format(BATCH_TOO_LARGE, requests.size(), MAX_REQUESTS));
+        }
+        List<CompletableFuture<BatchResponseDto>> responses = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> execute(userId, request), executor))
+                .collect(Collectors.toList());
+        try {
+            return responses.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private BatchResponseDto execute(long userId, BatchRequestDto request) {
+        Matcher matcher = RESOURCE_PATH.matcher(request.getPath() == null ? "" : request.getPath());
+        if (!"GET".equals(request.getMethod()) || !matcher.matches()) {
+            return response(request, HttpStatus.BAD_REQUEST,
+                    new ErrorResponse("Неподдерживаемый запрос: " + request.getMethod() + " " + request.getPath()));
+        }
+        long id = Long.parseLong(matcher.group(2));
+        try {
+            return response(request, HttpStatus.OK, find(userId, matcher.group(1), id));
+        } catch (NotFoundException | NotOwnerException e) {
+            log.error(e.getMessage());
+            return response(request, HttpStatus.NOT_FOUND, new ErrorResponse(e.getMessage()));
+        } catch (NotAvailableException e) {
+            log.error(e.getMessage());
+            return response(request, HttpStatus.BAD_REQUEST, new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    private Object find(long userId, String resource, long id) {
+        switch (resource) {
+            case "items":
+                return itemService.findItemById(userId, id);
+            case "users":
+                return userService.findUserById(id);
+            case "requests":
+                return requestService.findRequestById(userId, id);
+            default:
+                return bookingService.findBooking(userId, id);
+        }
+    }
+
+    private static BatchResponseDto response(BatchRequestDto request, HttpStatus status, Object body) {
+        return BatchResponseDto.builder()
+                .id(request.getId())
+                .status(status.value())
+                .body(body)
+                .build();
+    }
+}
@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.Collection;
 
@@ -35,14 +37,22 @@ public class BookingController {
     }
 
     @GetMapping
-    public Collection<BookingDto> findAllBookingsForOwner(@RequestHeader(SHARER_USER_ID) Long userId,
-                                                          @RequestParam(defaultValue = "ALL") String state,
-                                                          @RequestParam(defaultValue = "0") int from,
-                                                          @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<Collection<BookingDto>> findAllBookingsForOwner(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                                          @RequestParam(defaultValue = "ALL") String state,
+                                                                          @RequestParam(defaultValue = "0") int from,
+                                                                          @RequestParam(defaultValue = "10") int size,
+                                                                          @RequestParam(required = false) String after) {
         log.debug("поступил запрос на получение списка всех бронирований с состоянием {} " +
                 "от пользователя с id: {}  ", state, userId);
-        PageRequest page = PageRequest.of(from / size, size, Sort.by("start").descending());
-        return bookingService.findAllBookingsForOwner(userId, BookingState.toBookingState(state), page);
+        Collection<BookingDto> bookings;
+        if (after != null) {
+            bookings = bookingService.findAllBookingsForOwner(userId, BookingState.toBookingState(state),
+                    PageCursor.decodeWithPosition(after), size);
+        } else {
+            PageRequest page = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start", "id"));
+            bookings = bookingService.findAllBookingsForOwner(userId, BookingState.toBookingState(state), page);
+        }
+        return PageCursor.toResponse(bookings, size, booking -> PageCursor.of(booking.getStart(), booking.getId()));
     }
 
     @PatchMapping("/{bookingId}")
@@ -61,14 +71,22 @@ public class BookingController {
     }
 
     @GetMapping("/owner")
-    public Collection<BookingDto> findBookingForAllOwnerItems(@RequestHeader(SHARER_USER_ID) Long userId,
-                                                              @RequestParam(defaultValue = "ALL") String state,
-                                                              @RequestParam(defaultValue = "0") int from,
-                                                              @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<Collection<BookingDto>> findBookingForAllOwnerItems(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                                              @RequestParam(defaultValue = "ALL") String state,
+                                                                              @RequestParam(defaultValue = "0") int from,
+                                                                              @RequestParam(defaultValue = "10") int size,
+                                                                              @RequestParam(required = false) String after) {
         log.debug("поступил запрос на получение списка бронирований для всех вещей с состоянием {} " +
                 "от пользователя с id: {}  ", state, userId);
-        PageRequest page = PageRequest.of(from / size, size, Sort.by("start").descending());
-        return bookingService.findBookingForAllOwnerItems(userId, BookingState.toBookingState(state), page);
+        Collection<BookingDto> bookings;
+        if (after != null) {
+            bookings = bookingService.findBookingForAllOwnerItems(userId, BookingState.toBookingState(state),
+                    PageCursor.decodeWithPosition(after), size);
+        } else {
+            PageRequest page = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start", "id"));
+            bookings = bookingService.findBookingForAllOwnerItems(userId, BookingState.toBookingState(state), page);
+        }
+        return PageCursor.toResponse(bookings, size, booking -> PageCursor.of(booking.getStart(), booking.getId()));
     }
 
 }
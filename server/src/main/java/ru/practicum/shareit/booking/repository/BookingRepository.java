@@ -1,54 +1,92 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.booking.model.ItemBookingStart;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByItem(Item item);
+    @Override
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Optional<Booking> findById(Long id);
+
+    @Query("select case when count(b) > 0 then true else false end from Booking b " +
+            "where b.item.id = ?1 " +
+            "and b.status not in ?2 " +
+            "and b.start < ?4 " +
+            "and b.end > ?3")
+    boolean existsOverlappingBooking(Long itemId, Collection<BookingStatus> ignored, LocalDateTime start, LocalDateTime end);
 
     List<Booking> findAllByItemIdIn(Set<Long> ids);
 
-    Collection<Booking> findAllByBookerIdAndItemIdAndEndIsBeforeAndStatusIs(Long bookerId, Long itemId, LocalDateTime time, BookingStatus status);
+    @Query("select b.item.id as itemId, min(b.start) as start from Booking b " +
+            "where b.status = ?1 " +
+            "and b.start > ?2 " +
+            "group by b.item.id")
+    List<ItemBookingStart> findNextStartsByStatus(BookingStatus status, LocalDateTime time);
+
+    @Query("select distinct b.item.id from Booking b where b.booker.id = ?1")
+    Set<Long> findItemIdsByBookerId(long bookerId);
 
-    List<Booking> findAllByItemIdInAndStatus(Set<Long> ids, BookingStatus status);
+    Collection<Booking> findAllByBookerIdAndItemIdAndEndIsBeforeAndStatusIs(Long bookerId, Long itemId, LocalDateTime time, BookingStatus status);
 
+    @Query(value = "select * from bookings where id in (" +
+            "select id from (select id, row_number() over (partition by item_id order by end_date desc, id desc) rn " +
+            "from bookings where item_id in (:ids) and status = 'APPROVED' and start_date < :time) past " +
+            "where rn = 1 " +
+            "union all " +
+            "select id from (select id, row_number() over (partition by item_id order by start_date, id) rn " +
+            "from bookings where item_id in (:ids) and status = 'APPROVED' and start_date > :time) future " +
+            "where rn = 1)", nativeQuery = true)
+    List<Booking> findLastAndNextApprovedByItemIdIn(@Param("ids") Collection<Long> ids, @Param("time") LocalDateTime time);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     List<Booking> findAllByBookerId(Long booker, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     List<Booking> findAllByBookerIdAndStartAfter(Long booker, LocalDateTime time, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     List<Booking> findAllByBookerIdAndStartBeforeAndEndAfter(Long booker, LocalDateTime start, LocalDateTime end, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     List<Booking> findAllByBookerIdAndEndBefore(Long booker, LocalDateTime time, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     List<Booking> findAllByBookerIdAndStatus(Long booker, BookingStatus state, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     @Query("select b from Booking b " +
             "where b.item.owner.id = ?1 " +
             "order by b.start DESC")
     List<Booking> findAllForOwner(Long owner, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     @Query("select b from Booking b " +
             "where b.status = ?1 " +
             "and b.item.owner.id = ?2 " +
             "order by b.start DESC")
     List<Booking> findAllForOwnerState(BookingStatus state, Long owner, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     @Query("select b from Booking b " +
             "where b.item.owner.id = ?1 " +
             "and b.end < ?2 " +
             "order by b.start DESC")
     List<Booking> findAllForOwnerPast(Long itemId, LocalDateTime time, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     @Query("select b from Booking b " +
             "where b.item.owner.id = ?1 " +
             "and b.start < ?2 " +
@@ -56,10 +94,101 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "order by b.start DESC")
     List<Booking> findAllForOwnerCurrent(Long itemId, LocalDateTime time, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
     @Query("select b from Booking b " +
             "where b.item.owner.id = ?1 " +
             "and b.start > ?2 " +
             "order by b.start DESC")
     List<Booking> findAllForOwnerFuture(Long itemId, LocalDateTime time, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.start <= ?2 " +
+            "and (b.start < ?2 or b.id < ?3) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForBookerAfter(Long booker, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.status = ?1 " +
+            "and b.booker.id = ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForBookerStateAfter(BookingStatus state, Long booker, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.end < ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForBookerPastAfter(Long booker, LocalDateTime time, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.start < ?2 " +
+            "and b.end > ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForBookerCurrentAfter(Long booker, LocalDateTime time, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.start > ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForBookerFutureAfter(Long booker, LocalDateTime time, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 " +
+            "and b.start <= ?2 " +
+            "and (b.start < ?2 or b.id < ?3) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForOwnerAfter(Long owner, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.status = ?1 " +
+            "and b.item.owner.id = ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForOwnerStateAfter(BookingStatus state, Long owner, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 " +
+            "and b.end < ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForOwnerPastAfter(Long owner, LocalDateTime time, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 " +
+            "and b.start < ?2 " +
+            "and b.end > ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForOwnerCurrentAfter(Long owner, LocalDateTime time, LocalDateTime start, Long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 " +
+            "and b.start > ?2 " +
+            "and b.start <= ?3 " +
+            "and (b.start < ?3 or b.id < ?4) " +
+            "order by b.start DESC, b.id DESC")
+    List<Booking> findAllForOwnerFutureAfter(Long owner, LocalDateTime time, LocalDateTime start, Long id, Pageable page);
+
 }
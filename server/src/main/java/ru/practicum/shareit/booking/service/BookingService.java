@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.service;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.Collection;
 
@@ -14,10 +15,14 @@ public interface BookingService {
 
     Collection<BookingDto> findAllBookingsForOwner(long userId, BookingState state, PageRequest page);
 
+    Collection<BookingDto> findAllBookingsForOwner(long userId, BookingState state, PageCursor after, int size);
+
     BookingDto updateStatusBooking(long userId, long bookingId, boolean approved);
 
     void deleteBookingById(long userId, long bookingId);
 
     Collection<BookingDto> findBookingForAllOwnerItems(long userId, BookingState state, PageRequest page);
 
+    Collection<BookingDto> findBookingForAllOwnerItems(long userId, BookingState state, PageCursor after, int size);
+
 }
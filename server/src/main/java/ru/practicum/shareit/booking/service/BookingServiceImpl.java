@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,11 +15,15 @@ import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static ru.practicum.shareit.exception.Constant.*;
 
@@ -30,6 +35,9 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Set<BookingStatus> INACTIVE_STATUSES = EnumSet.of(BookingStatus.REJECTED, BookingStatus.CANCELED);
 
     @Transactional
     @Override
@@ -37,7 +45,7 @@ public class BookingServiceImpl implements BookingService {
         if (bookingDto.getEnd().isBefore(bookingDto.getStart()) || bookingDto.getEnd().isEqual(bookingDto.getStart())) {
             throw new IncorrectDateTimeException("Неверно указана дата.");
         }
-        Item item = itemRepository.findById(bookingDto.getItemId())
+        Item item = itemRepository.findByIdForUpdate(bookingDto.getItemId())
                 .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_ITEM, bookingDto.getItemId())));
         if (!item.getAvailable()) {
             throw new NotAvailableException("Не доступна для бронирования.");
@@ -99,6 +107,37 @@ public class BookingServiceImpl implements BookingService {
         return BookingMapper.toBookingDto(bookings);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Collection<BookingDto> findAllBookingsForOwner(long userId, BookingState state, PageCursor after, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format(NOT_FOUND_USER, userId));
+        }
+        final LocalDateTime time = LocalDateTime.now();
+        final PageRequest page = PageRequest.of(0, size);
+        Collection<Booking> bookings;
+        switch (state) {
+            case FUTURE:
+                bookings = bookingRepository.findAllForBookerFutureAfter(userId, time, after.getPosition(), after.getId(), page);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findAllForBookerCurrentAfter(userId, time, after.getPosition(), after.getId(), page);
+                break;
+            case PAST:
+                bookings = bookingRepository.findAllForBookerPastAfter(userId, time, after.getPosition(), after.getId(), page);
+                break;
+            case WAITING:
+            case REJECTED:
+                bookings = bookingRepository.findAllForBookerStateAfter(BookingStatus.valueOf(state.toString()), userId,
+                        after.getPosition(), after.getId(), page);
+                break;
+            default:
+                bookings = bookingRepository.findAllForBookerAfter(userId, after.getPosition(), after.getId(), page);
+                break;
+        }
+        return BookingMapper.toBookingDto(bookings);
+    }
+
     @Transactional
     @Override
     public BookingDto updateStatusBooking(long userId, long bookingId, boolean approved) {
@@ -111,7 +150,11 @@ public class BookingServiceImpl implements BookingService {
             throw new NotAvailableException("Бронирование уже одобрено или отклонено");
         }
         booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        return BookingMapper.toBookingDto(bookingRepository.save(booking));
+        Booking saved = bookingRepository.save(booking);
+        if (approved) {
+            eventPublisher.publishEvent(new ItemChangedEvent(Set.of(booking.getItem().getId())));
+        }
+        return BookingMapper.toBookingDto(saved);
     }
 
     @Transactional
@@ -124,6 +167,9 @@ public class BookingServiceImpl implements BookingService {
         } else {
             bookingRepository.deleteById(bookingId);
         }
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            eventPublisher.publishEvent(new ItemChangedEvent(Set.of(booking.getItem().getId())));
+        }
     }
 
     @Transactional(readOnly = true)
@@ -155,19 +201,42 @@ public class BookingServiceImpl implements BookingService {
         return BookingMapper.toBookingDto(bookings);
     }
 
-    private boolean isBookingTimeAvailable(Item item, LocalDateTime start, LocalDateTime end) {
-        Collection<Booking> existingBookings = bookingRepository.findByItem(item);
-
-        for (Booking booking : existingBookings) {
-            if (isTimeOverlap(booking.getStart(), booking.getEnd(), start, end)) {
-                throw new BookingTimeUnavailableException("Время бронирования недоступно.");
-            }
+    @Transactional(readOnly = true)
+    @Override
+    public Collection<BookingDto> findBookingForAllOwnerItems(long userId, BookingState state, PageCursor after, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format(NOT_FOUND_USER, userId));
         }
-        return true;
+        final LocalDateTime time = LocalDateTime.now();
+        final PageRequest page = PageRequest.of(0, size);
+        Collection<Booking> bookings;
+        switch (state) {
+            case PAST:
+                bookings = bookingRepository.findAllForOwnerPastAfter(userId, time, after.getPosition(), after.getId(), page);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findAllForOwnerCurrentAfter(userId, time, after.getPosition(), after.getId(), page);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findAllForOwnerFutureAfter(userId, time, after.getPosition(), after.getId(), page);
+                break;
+            case WAITING:
+            case REJECTED:
+                bookings = bookingRepository.findAllForOwnerStateAfter(BookingStatus.valueOf(state.toString()), userId,
+                        after.getPosition(), after.getId(), page);
+                break;
+            default:
+                bookings = bookingRepository.findAllForOwnerAfter(userId, after.getPosition(), after.getId(), page);
+                break;
+        }
+        return BookingMapper.toBookingDto(bookings);
     }
 
-    private boolean isTimeOverlap(LocalDateTime startBooked, LocalDateTime endBooked, LocalDateTime startNew, LocalDateTime endNew) {
-        return startBooked.isBefore(endNew) && startNew.isBefore(endBooked);
+    private boolean isBookingTimeAvailable(Item item, LocalDateTime start, LocalDateTime end) {
+        if (bookingRepository.existsOverlappingBooking(item.getId(), INACTIVE_STATUSES, start, end)) {
+            throw new BookingTimeUnavailableException("Время бронирования недоступно.");
+        }
+        return true;
     }
 
 }
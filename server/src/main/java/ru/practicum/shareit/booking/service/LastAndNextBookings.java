@@ -0,0 +1,43 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Последнее и следующее подтверждённые бронирования вещей на момент запроса.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LastAndNextBookings {
+    private static final LastAndNextBookings NONE = new LastAndNextBookings(Map.of(), Map.of());
+
+    private final Map<Long, Booking> last;
+    private final Map<Long, Booking> next;
+
+    public static LastAndNextBookings find(BookingRepository bookingRepository, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return NONE;
+        }
+        LocalDateTime time = LocalDateTime.now();
+        Map<Boolean, Map<Long, Booking>> bookings = bookingRepository.findLastAndNextApprovedByItemIdIn(itemIds, time)
+                .stream()
+                .collect(Collectors.partitioningBy(booking -> booking.getStart().isBefore(time),
+                        Collectors.toMap(booking -> booking.getItem().getId(), Function.identity())));
+        return new LastAndNextBookings(bookings.get(true), bookings.get(false));
+    }
+
+    public Booking last(long itemId) {
+        return last.get(itemId);
+    }
+
+    public Booking next(long itemId) {
+        return next.get(itemId);
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemSummaryCheckDto;
+import ru.practicum.shareit.item.service.ItemSummaryService;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "itemsummary")
+@RequiredArgsConstructor
+public class ItemSummaryEndpoint {
+    private final ItemSummaryService itemSummaryService;
+
+    @ReadOperation
+    public ItemSummaryCheckDto check() {
+        return itemSummaryService.check();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Map.of("rebuilt", itemSummaryService.rebuild());
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+
+}
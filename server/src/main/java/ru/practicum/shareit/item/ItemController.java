@@ -3,11 +3,14 @@ package ru.practicum.shareit.item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.Collection;
 import java.util.List;
@@ -36,12 +39,19 @@ public class ItemController {
     }
 
     @GetMapping
-    public Collection<ItemDto> findAllItemsByUserId(@RequestHeader(SHARER_USER_ID) Long userId,
-                                                    @RequestParam(defaultValue = "0") int from,
-                                                    @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<Collection<ItemDto>> findAllItemsByUserId(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                                    @RequestParam(defaultValue = "0") int from,
+                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                    @RequestParam(required = false) String after) {
         log.debug("поступил запрос на просмотр владельцем всех своих вещей, id: {} ", userId);
-        PageRequest page = PageRequest.of(from / size, size);
-        return itemService.findAllItemsByUserId(userId, page);
+        Collection<ItemDto> items;
+        if (after != null) {
+            items = itemService.findAllItemsByUserId(userId, PageCursor.decode(after), size);
+        } else {
+            PageRequest page = PageRequest.of(from / size, size, Sort.by("id"));
+            items = itemService.findAllItemsByUserId(userId, page);
+        }
+        return PageCursor.toResponse(items, size, item -> PageCursor.of(item.getId()));
     }
 
     @PatchMapping("/{itemId}")
@@ -21,4 +21,12 @@ public class ItemDto {
     private List<CommentDto> comments;
     private Long requestId;
 
+    public ItemDto(long id, String name, String description, Boolean available, Long requestId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.requestId = requestId;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemSummaryCheckDto {
+
+    private int checked;
+    private List<Long> missing;
+    private List<Long> stale;
+
+}
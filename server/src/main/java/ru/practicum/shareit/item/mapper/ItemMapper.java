@@ -1,15 +1,17 @@
 package ru.practicum.shareit.item.mapper;
 
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.ShortBookingDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.LittleItemDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
 
-import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class ItemMapper {
@@ -48,25 +50,33 @@ public class ItemMapper {
         return itemDto;
     }
 
-    public static ItemDto toFullItemDto(Item item, Collection<Booking> bookings, Collection<Comment> comments) {
+    public static ItemDto toItemDto(ItemSummary summary, boolean withBookings, List<CommentDto> comments) {
+        ItemDto itemDto = new ItemDto();
+        itemDto.setId(summary.getItemId());
+        itemDto.setName(summary.getName());
+        itemDto.setDescription(summary.getDescription());
+        itemDto.setAvailable(summary.getAvailable());
+        if (withBookings && summary.getLastBookingId() != null) {
+            itemDto.setLastBooking(new ShortBookingDto(summary.getLastBookingId(), summary.getLastBookerId()));
+        }
+        if (withBookings && summary.getNextBookingId() != null) {
+            itemDto.setNextBooking(new ShortBookingDto(summary.getNextBookingId(), summary.getNextBookerId()));
+        }
+        itemDto.setComments(comments);
+        return itemDto;
+    }
+
+    public static ItemDto toFullItemDto(Item item, Booking lastBooking, Booking nextBooking, Collection<Comment> comments) {
         ItemDto itemDto = new ItemDto();
         itemDto.setId(item.getId());
         itemDto.setName(item.getName());
         itemDto.setDescription(item.getDescription());
         itemDto.setAvailable(item.getAvailable());
-
-        if (bookings != null && !bookings.isEmpty()) {
-            LocalDateTime time = LocalDateTime.now();
-
-            bookings.stream()
-                    .filter(booking -> booking.getStart().isBefore(time))
-                    .max(Comparator.comparing(Booking::getEnd))
-                    .ifPresent(booking -> itemDto.setLastBooking(BookingMapper.toLittleBookingDto(booking)));
-            bookings.stream()
-                    .filter(booking -> booking.getStart().isAfter(time))
-                    .min(Comparator.comparing(Booking::getStart))
-                    .ifPresent(booking -> itemDto.setNextBooking(BookingMapper.toLittleBookingDto(booking)));
-
+        if (lastBooking != null) {
+            itemDto.setLastBooking(BookingMapper.toLittleBookingDto(lastBooking));
+        }
+        if (nextBooking != null) {
+            itemDto.setNextBooking(BookingMapper.toLittleBookingDto(nextBooking));
         }
         itemDto.setComments(comments.stream()
                 .map(CommentMapper::toCommentDto)
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item.model;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
@@ -12,6 +14,8 @@ import javax.persistence.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @ToString
 @Table(name = "items")
 public class Item {
@@ -28,7 +32,8 @@ public class Item {
     @ManyToOne(targetEntity = User.class)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
-    @ManyToOne(targetEntity = ItemRequest.class)
+    @ToString.Exclude
+    @ManyToOne(targetEntity = ItemRequest.class, fetch = FetchType.LAZY)
     @JoinColumn(name = "request_id")
     private ItemRequest request;
 
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Entity
+@Table(name = "item_summaries")
+public class ItemSummary {
+
+    @Id
+    @Column(name = "item_id")
+    private long itemId;
+    @Column(name = "owner_id", nullable = false)
+    private long ownerId;
+    @Column(name = "name", nullable = false)
+    private String name;
+    @Column(name = "description", nullable = false)
+    private String description;
+    @Column(name = "is_available", nullable = false)
+    private Boolean available;
+    @Column(name = "last_booking_id")
+    private Long lastBookingId;
+    @Column(name = "last_booker_id")
+    private Long lastBookerId;
+    @Column(name = "next_booking_id")
+    private Long nextBookingId;
+    @Column(name = "next_booker_id")
+    private Long nextBookerId;
+    @Column(name = "valid_until")
+    private LocalDateTime validUntil;
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+    @Column(name = "latest_comments", nullable = false)
+    private String latestComments;
+    @Version
+    @Column(name = "version", nullable = false)
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
+}
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.util.Collection;
@@ -10,6 +12,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Collection<Comment> findAllByItemId(long itemId);
 
+    @EntityGraph(attributePaths = "author")
     Collection<Comment> findAllByItemIdIn(Set<Long> itemIds);
 
+    @Query("select distinct c.item.id from Comment c where c.author.id = ?1")
+    Set<Long> findItemIdsByAuthorId(long authorId);
+
 }
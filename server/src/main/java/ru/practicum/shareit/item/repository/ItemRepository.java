@@ -2,24 +2,49 @@ package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
-    @Query("select i from Item as i " +
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item as i where i.id = ?1")
+    Optional<Item> findByIdForUpdate(Long itemId);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, r.id) " +
+            "from Item as i " +
+            "left join i.request as r " +
             "where i.available = true " +
             "and (lower(i.name) like lower (concat('%', ?1, '%')) " +
-            "or lower(i.description) like lower (concat('%', ?1, '%')))")
-    List<Item> getItemsBySearchQuery(String text, Pageable page);
+            "or lower(i.description) like lower (concat('%', ?1, '%'))) " +
+            "order by case when lower(i.name) like lower (concat('%', ?1, '%')) then 0 else 1 end, i.id")
+    List<ItemDto> getItemsBySearchQuery(String text, Pageable page);
 
     List<Item> findAllByOwnerId(Long owner, Pageable page);
 
+    List<Item> findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(Long owner, Long id, Pageable page);
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     List<Item> findAllByRequestRequestorId(Long requestorId);
 
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Collection<Item> findAllByRequestId(Long requestId);
 
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, r.id) " +
+            "from Item as i " +
+            "join i.request as r " +
+            "where r.id in ?1")
+    Collection<ItemDto> findAllByRequestIdIn(Collection<Long> requestIds);
+
 }
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import ru.practicum.shareit.item.model.ItemSummary;
+
+public interface ItemSummaryRepository extends JpaRepository<ItemSummary, Long> {
+
+}
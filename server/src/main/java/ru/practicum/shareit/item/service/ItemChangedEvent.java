@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ItemChangedEvent {
+
+    private final Set<Long> itemIds;
+
+}
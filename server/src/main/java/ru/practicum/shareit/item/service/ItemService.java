@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.service;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.Collection;
 
@@ -14,6 +15,8 @@ public interface ItemService {
 
     Collection<ItemDto> findAllItemsByUserId(long userId, PageRequest page);
 
+    Collection<ItemDto> findAllItemsByUserId(long userId, PageCursor after, int size);
+
     ItemDto updateItem(Long userId, ItemDto itemDto);
 
     void deleteItemById(long userId, long itemId);
@@ -2,12 +2,13 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.LastAndNextBookings;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.NotOwnerException;
 import ru.practicum.shareit.exception.UncompletedBookingException;
@@ -19,6 +20,7 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -40,6 +42,8 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final RequestRepository requestRepository;
+    private final ItemSummaryService itemSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -53,52 +57,41 @@ public class ItemServiceImpl implements ItemService {
                             String.format(NOT_FOUND_ITEM_REQUEST, itemDto.getRequestId()))));
         }
         Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(Set.of(savedItem.getId())));
         log.debug("Вещь с id: {} добавлена.", savedItem.getId());
         return ItemMapper.toItemDto(savedItem);
     }
 
-    @Transactional(readOnly = true)
     @Override
     public ItemDto findItemById(long userId, long itemId) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_ITEM, itemId)));
-
-        Collection<Booking> itemBookings = getItemBookings(userId, item);
-        Collection<Comment> itemComments = getItemComments(itemId);
-
-        ItemDto itemDto = ItemMapper.toFullItemDto(item, itemBookings, itemComments);
-        log.debug("Вещь с id: {} найдена.", itemId);
-        return itemDto;
-    }
-
-    private Collection<Booking> getItemBookings(long userId, Item item) {
-        if (item.getOwner().getId() == userId) {
-            return new ArrayList<>(bookingRepository.findAllByItemIdInAndStatus(Set.of(item.getId()), BookingStatus.APPROVED));
-        } else {
-            return Collections.emptyList();
-        }
+        return itemSummaryService.findItem(userId, itemId);
     }
 
-    private Collection<Comment> getItemComments(long itemId) {
-        return commentRepository.findAllByItemId(itemId);
+    @Transactional(readOnly = true)
+    @Override
+    public Collection<ItemDto> findAllItemsByUserId(long userId, PageRequest page) {
+        return toFullItemDto(userId, itemRepository.findAllByOwnerId(userId, page));
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Collection<ItemDto> findAllItemsByUserId(long userId, PageRequest page) {
-        Map<Long, Item> itemsByOwner = itemRepository.findAllByOwnerId(userId, page)
-                .stream().collect(Collectors.toMap(Item::getId, Function.identity()));
+    public Collection<ItemDto> findAllItemsByUserId(long userId, PageCursor after, int size) {
+        return toFullItemDto(userId, itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(userId, after.getId(),
+                PageRequest.of(0, size)));
+    }
+
+    private List<ItemDto> toFullItemDto(long userId, List<Item> items) {
+        Map<Long, Item> itemsByOwner = items.stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
 
-        Map<Long, List<Booking>> bookingsByItems = bookingRepository.findAllByItemIdInAndStatus(itemsByOwner.keySet(),
-                        BookingStatus.APPROVED)
-                .stream().collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+        LastAndNextBookings bookings = LastAndNextBookings.find(bookingRepository, itemsByOwner.keySet());
 
         Map<Long, List<Comment>> commentsByItems = commentRepository.findAllByItemIdIn(itemsByOwner.keySet())
                 .stream().collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
 
         List<ItemDto> collect = itemsByOwner.values().stream()
                 .map(item -> ItemMapper.toFullItemDto(item,
-                        bookingsByItems.getOrDefault(item.getId(), Collections.emptyList()),
+                        bookings.last(item.getId()), bookings.next(item.getId()),
                         commentsByItems.getOrDefault(item.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
         log.debug("Всего вещей: {} пользователя с id: {}.", collect.size(), userId);
@@ -127,6 +120,7 @@ public class ItemServiceImpl implements ItemService {
             updatedItem.setAvailable(item.getAvailable());
         }
         Item saved = itemRepository.save(updatedItem);
+        eventPublisher.publishEvent(new ItemChangedEvent(Set.of(saved.getId())));
         log.debug("Вещь с id: {} обновлена.", item.getId());
         return ItemMapper.toItemDto(saved);
 
@@ -153,9 +147,9 @@ public class ItemServiceImpl implements ItemService {
         if (text.isBlank() || text.isEmpty()) {
             return List.of();
         }
-        Collection<Item> searched = itemRepository.getItemsBySearchQuery(text, page);
+        List<ItemDto> searched = itemRepository.getItemsBySearchQuery(text, page);
         log.debug("Вещей найден: {}.", searched.size());
-        return ItemMapper.toItemDto(searched);
+        return searched;
     }
 
     @Transactional
@@ -175,6 +169,7 @@ public class ItemServiceImpl implements ItemService {
         comment.setItem(item);
         comment.setCreated(time);
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new ItemChangedEvent(Set.of(itemId)));
         log.debug("Комментарий с id: {} сохранен.", savedComment.getId());
         return CommentMapper.toCommentDto(comment);
     }
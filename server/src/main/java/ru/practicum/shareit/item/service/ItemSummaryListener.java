@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSummaryListener {
+
+    private final ItemSummaryService itemSummaryService;
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.getItemIds().isEmpty()) {
+            return;
+        }
+        try {
+            itemSummaryService.refresh(event.getItemIds());
+        } catch (RuntimeException e) {
+            log.error("Не удалось обновить сводку вещей с id: {}.", event.getItemIds(), e);
+        }
+    }
+
+}
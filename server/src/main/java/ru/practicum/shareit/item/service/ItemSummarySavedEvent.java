@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.model.ItemSummary;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemSummarySavedEvent {
+
+    private final List<ItemSummary> summaries;
+
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.timer.TimingWheel;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes an item summary at its {@code validUntil}, the start of its next approved booking, which is the only
+ * instant at which the last and next bookings of an item change. Summaries that a read found missing or expired are
+ * rebuilt here too, off the request thread and at most once at a time per item.
+ */
+@Slf4j
+@Component
+public class ItemSummaryScheduler {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int JITTER_TICKS = 4;
+
+    private final ItemSummaryService itemSummaryService;
+    private final BookingRepository bookingRepository;
+    private final long tickMillis;
+    private final TimingWheel<Map.Entry<Long, LocalDateTime>> wheel;
+    private final Map<Long, LocalDateTime> deadlines = new HashMap<>();
+    private final Set<Long> staleRefreshes = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-summary-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ItemSummaryScheduler(ItemSummaryService itemSummaryService, BookingRepository bookingRepository,
+                                @Value("${shareit.item-summary.timer.tick:PT1S}") Duration tick) {
+        this.itemSummaryService = itemSummaryService;
+        this.bookingRepository = bookingRepository;
+        this.tickMillis = tick.toMillis();
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        bookingRepository.findNextStartsByStatus(BookingStatus.APPROVED, LocalDateTime.now())
+                .forEach(start -> schedule(start.getItemId(), start.getStart()));
+        executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Запланировано обновление сводки для {} вещей.", deadlines.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSummarySaved(ItemSummarySavedEvent event) {
+        event.getSummaries().forEach(summary -> schedule(summary.getItemId(), summary.getValidUntil()));
+    }
+
+    @EventListener
+    public void onSummaryStale(ItemSummaryStaleEvent event) {
+        long itemId = event.getItemId();
+        if (!staleRefreshes.add(itemId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh(Set.of(itemId));
+                } finally {
+                    staleRefreshes.remove(itemId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            staleRefreshes.remove(itemId);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    synchronized void schedule(long itemId, LocalDateTime validUntil) {
+        if (validUntil == null) {
+            deadlines.remove(itemId);
+            return;
+        }
+        if (validUntil.equals(deadlines.put(itemId, validUntil))) {
+            return;
+        }
+        // разброс, чтобы экземпляры сервера не обновляли одни и те же строки в один тик
+        long deadline = validUntil.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                + ThreadLocalRandom.current().nextLong(tickMillis * JITTER_TICKS);
+        if (!wheel.add(deadline, Map.entry(itemId, validUntil))) {
+            deadlines.remove(itemId);
+            executor.execute(() -> refresh(Set.of(itemId)));
+        }
+    }
+
+    private void tick() {
+        Set<Long> due = new HashSet<>();
+        synchronized (this) {
+            wheel.advanceTo(System.currentTimeMillis(), entry -> {
+                if (deadlines.remove(entry.getKey(), entry.getValue())) {
+                    due.add(entry.getKey());
+                }
+            });
+        }
+        if (!due.isEmpty()) {
+            refresh(due);
+        }
+    }
+
+    private void refresh(Set<Long> itemIds) {
+        try {
+            itemSummaryService.refresh(itemIds);
+        } catch (RuntimeException e) {
+            log.error("Не удалось обновить сводку вещей с id: {}.", itemIds, e);
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSummaryCheckDto;
+
+import java.util.Collection;
+
+public interface ItemSummaryService {
+
+    ItemDto findItem(long userId, long itemId);
+
+    void refresh(Collection<Long> itemIds);
+
+    int rebuild();
+
+    ItemSummaryCheckDto check();
+
+}
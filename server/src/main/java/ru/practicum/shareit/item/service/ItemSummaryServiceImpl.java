@@ -0,0 +1,219 @@
+package ru.practicum.shareit.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.LastAndNextBookings;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSummaryCheckDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.practicum.shareit.exception.Constant.NOT_FOUND_ITEM;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemSummaryServiceImpl implements ItemSummaryService {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_REFRESH_ATTEMPTS = 5;
+    private static final TypeReference<List<CommentDto>> COMMENTS = new TypeReference<>() {
+    };
+
+    private final ItemSummaryRepository itemSummaryRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${shareit.item-summary.comments-limit:20}")
+    private int commentsLimit;
+
+    @Transactional(readOnly = true)
+    @Override
+    public ItemDto findItem(long userId, long itemId) {
+        ItemSummary summary = itemSummaryRepository.findById(itemId)
+                .filter(found -> !isExpired(found, LocalDateTime.now()))
+                .orElseGet(() -> buildForRead(itemId));
+
+        List<CommentDto> comments = readComments(summary);
+        if (comments.size() < summary.getCommentCount()) {
+            comments = commentRepository.findAllByItemId(itemId).stream()
+                    .map(CommentMapper::toCommentDto)
+                    .collect(Collectors.toList());
+        }
+        log.debug("Вещь с id: {} найдена.", itemId);
+        return ItemMapper.toItemDto(summary, summary.getOwnerId() == userId, comments);
+    }
+
+    @Override
+    public void refresh(Collection<Long> itemIds) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transaction.executeWithoutResult(status -> save(itemIds));
+                log.debug("Сводка обновлена для вещей с id: {}.", itemIds);
+                return;
+            } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt == MAX_REFRESH_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Сводка вещей с id: {} изменена параллельно, попытка {}.", itemIds, attempt);
+            }
+        }
+    }
+
+    @Override
+    public int rebuild() {
+        int rebuilt = 0;
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        Page<Item> page;
+        do {
+            page = itemRepository.findAll(pageable);
+            refresh(page.map(Item::getId).getContent());
+            rebuilt += page.getNumberOfElements();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        log.info("Сводка пересобрана для {} вещей.", rebuilt);
+        return rebuilt;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ItemSummaryCheckDto check() {
+        List<Long> missing = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+        int checked = 0;
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        Page<Item> page;
+        do {
+            page = itemRepository.findAll(pageable);
+            LocalDateTime time = LocalDateTime.now();
+            Map<Long, ItemSummary> stored = itemSummaryRepository.findAllById(page.map(Item::getId).getContent())
+                    .stream().collect(Collectors.toMap(ItemSummary::getItemId, Function.identity()));
+            for (ItemSummary expected : build(page.getContent())) {
+                ItemSummary summary = stored.get(expected.getItemId());
+                if (summary == null) {
+                    missing.add(expected.getItemId());
+                } else if (!isExpired(summary, time) && !summary.equals(expected)) {
+                    stale.add(expected.getItemId());
+                }
+            }
+            checked += page.getNumberOfElements();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        if (!missing.isEmpty() || !stale.isEmpty()) {
+            log.warn("Сводка вещей расходится с данными: отсутствует {}, устарело {}.", missing, stale);
+        }
+        return new ItemSummaryCheckDto(checked, missing, stale);
+    }
+
+    private ItemSummary buildForRead(long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_ITEM, itemId)));
+        eventPublisher.publishEvent(new ItemSummaryStaleEvent(itemId));
+        return build(List.of(item)).get(0);
+    }
+
+    private void save(Collection<Long> itemIds) {
+        // версии читаются до вещей: сводка, собранная по более старым данным, не перезапишет более новую
+        Map<Long, Long> versions = itemSummaryRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemSummary::getItemId, ItemSummary::getVersion));
+        List<ItemSummary> summaries = build(itemRepository.findAllById(itemIds));
+        summaries.forEach(summary -> summary.setVersion(versions.get(summary.getItemId())));
+        List<ItemSummary> saved = itemSummaryRepository.saveAllAndFlush(summaries);
+        eventPublisher.publishEvent(new ItemSummarySavedEvent(saved));
+    }
+
+    private List<ItemSummary> build(Collection<Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> itemIds = items.stream().map(Item::getId).collect(Collectors.toSet());
+        LastAndNextBookings bookings = LastAndNextBookings.find(bookingRepository, itemIds);
+        Map<Long, List<Comment>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+
+        return items.stream()
+                .map(item -> toSummary(item, bookings.last(item.getId()), bookings.next(item.getId()),
+                        comments.getOrDefault(item.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private ItemSummary toSummary(Item item, Booking lastBooking, Booking nextBooking, List<Comment> comments) {
+        List<CommentDto> latestComments = comments.stream()
+                .sorted(Comparator.comparingLong(Comment::getId))
+                .skip(Math.max(0, comments.size() - commentsLimit))
+                .map(CommentMapper::toCommentDto)
+                .collect(Collectors.toList());
+        return ItemSummary.builder()
+                .itemId(item.getId())
+                .ownerId(item.getOwner().getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .lastBookingId(lastBooking == null ? null : lastBooking.getId())
+                .lastBookerId(lastBooking == null ? null : lastBooking.getBooker().getId())
+                .nextBookingId(nextBooking == null ? null : nextBooking.getId())
+                .nextBookerId(nextBooking == null ? null : nextBooking.getBooker().getId())
+                .validUntil(nextBooking == null ? null : nextBooking.getStart())
+                .commentCount(comments.size())
+                .latestComments(writeComments(latestComments))
+                .build();
+    }
+
+    private static boolean isExpired(ItemSummary summary, LocalDateTime time) {
+        return summary.getValidUntil() != null && !summary.getValidUntil().isAfter(time);
+    }
+
+    private String writeComments(List<CommentDto> comments) {
+        try {
+            return objectMapper.writeValueAsString(comments);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось сохранить отзывы в сводку вещи.", e);
+        }
+    }
+
+    private List<CommentDto> readComments(ItemSummary summary) {
+        try {
+            return objectMapper.readValue(summary.getLatestComments(), COMMENTS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось прочитать отзывы из сводки вещи.", e);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemSummaryStaleEvent {
+
+    private final long itemId;
+
+}
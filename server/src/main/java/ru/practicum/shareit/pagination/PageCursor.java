@@ -0,0 +1,77 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.function.Function;
+
+@Getter
+@EqualsAndHashCode
+public final class PageCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime position;
+    private final long id;
+
+    private PageCursor(LocalDateTime position, long id) {
+        this.position = position;
+        this.id = id;
+    }
+
+    public static PageCursor of(LocalDateTime position, long id) {
+        return new PageCursor(position, id);
+    }
+
+    public static PageCursor of(long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.parseLong(value));
+            }
+            return of(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Некорректный курсор: " + cursor);
+        }
+    }
+
+    public static PageCursor decodeWithPosition(String cursor) {
+        PageCursor decoded = decode(cursor);
+        if (decoded.getPosition() == null) {
+            throw new InvalidCursorException("Курсор не содержит позиции: " + cursor);
+        }
+        return decoded;
+    }
+
+    public String encode() {
+        String value = position == null ? String.valueOf(id) : position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> ResponseEntity<Collection<T>> toResponse(Collection<T> content, int size,
+                                                               Function<T, PageCursor> cursor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!content.isEmpty() && content.size() == size) {
+            T last = new ArrayList<>(content).get(content.size() - 1);
+            response.header(NEXT_CURSOR_HEADER, cursor.apply(last).encode());
+        }
+        return response.body(content);
+    }
+
+}
@@ -2,7 +2,9 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.RequestService;
 
@@ -38,11 +40,15 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public Collection<ItemRequestDto> findAllRequest(@RequestHeader(SHARER_USER_ID) Long userId,
-                                                     @RequestParam(defaultValue = "0") int from,
-                                                     @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<Collection<ItemRequestDto>> findAllRequest(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                                     @RequestParam(defaultValue = "0") int from,
+                                                                     @RequestParam(defaultValue = "10") int size,
+                                                                     @RequestParam(required = false) String after) {
         log.debug("поступил запрос на получение списка всех запросов вещей, от пользователя {}.", userId);
-        return requestService.findAllRequest(userId, from, size);
+        Collection<ItemRequestDto> requests = after != null
+                ? requestService.findAllRequest(userId, PageCursor.decodeWithPosition(after), size)
+                : requestService.findAllRequest(userId, from, size);
+        return PageCursor.toResponse(requests, size, request -> PageCursor.of(request.getCreated(), request.getId()));
     }
 
 }
@@ -18,4 +18,10 @@ public class ItemRequestDto {
     LocalDateTime created;
     Collection<ItemDto> items;
 
+    public ItemRequestDto(long id, String description, LocalDateTime created) {
+        this.id = id;
+        this.description = description;
+        this.created = created;
+    }
+
 }
@@ -2,14 +2,28 @@ package ru.practicum.shareit.request.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RequestRepository extends JpaRepository<ItemRequest, Long> {
 
     List<ItemRequest> findAllByRequestorId(long userId);
 
-    List<ItemRequest> findAllByRequestorIdIsNot(Long userId, Pageable page);
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestDto(r.id, r.description, r.created) " +
+            "from ItemRequest as r " +
+            "where r.requestor.id <> ?1")
+    List<ItemRequestDto> findAllByRequestorIdIsNot(Long userId, Pageable page);
+
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestDto(r.id, r.description, r.created) " +
+            "from ItemRequest as r " +
+            "where r.requestor.id <> ?1 " +
+            "and r.created >= ?2 " +
+            "and (r.created > ?2 or r.id > ?3) " +
+            "order by r.created, r.id")
+    List<ItemRequestDto> findAllByRequestorIdIsNotAfter(Long userId, LocalDateTime created, Long id, Pageable page);
 
 }
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.List;
@@ -14,4 +15,6 @@ public interface RequestService {
 
     List<ItemRequestDto> findAllRequest(Long userId, int from, int size);
 
+    List<ItemRequestDto> findAllRequest(Long userId, PageCursor after, int size);
+
 }
@@ -7,9 +7,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.RequestRepository;
@@ -21,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.exception.Constant.*;
@@ -79,14 +81,32 @@ public class RequestServiceImpl implements RequestService {
         if (!userRepository.existsById(userId)) {
             throw new NotFoundException(String.format(NOT_FOUND_USER, userId));
         }
-        PageRequest page = PageRequest.of(from, size, Sort.by("created").ascending());
-        return requestRepository.findAllByRequestorIdIsNot(userId, page).stream()
-                .map(RequestMapper::toRequestDto)
-                .peek(itemRequestDto -> itemRequestDto.setItems(
-                        itemRepository.findAllByRequestId(itemRequestDto.getId())
-                                .stream().map(ItemMapper::toItemDto)
-                                .collect(Collectors.toList())))
-                .collect(Collectors.toList());
+        PageRequest page = PageRequest.of(from, size, Sort.by("created").ascending().and(Sort.by("id")));
+        return attachItems(requestRepository.findAllByRequestorIdIsNot(userId, page));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ItemRequestDto> findAllRequest(Long userId, PageCursor after, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format(NOT_FOUND_USER, userId));
+        }
+        return attachItems(requestRepository.findAllByRequestorIdIsNotAfter(userId, after.getPosition(), after.getId(),
+                PageRequest.of(0, size)));
+    }
+
+    private List<ItemRequestDto> attachItems(List<ItemRequestDto> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> requestIds = itemRequests.stream().map(ItemRequestDto::getId).collect(Collectors.toSet());
+
+        Map<Long, List<ItemDto>> itemsByRequests = itemRepository.findAllByRequestIdIn(requestIds)
+                .stream().collect(Collectors.groupingBy(ItemDto::getRequestId));
+
+        itemRequests.forEach(itemRequest ->
+                itemRequest.setItems(itemsByRequests.getOrDefault(itemRequest.getId(), Collections.emptyList())));
+        return itemRequests;
     }
 
     @Transactional(readOnly = true)
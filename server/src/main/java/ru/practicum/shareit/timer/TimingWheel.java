@@ -0,0 +1,117 @@
+package ru.practicum.shareit.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Level {@code n} buckets span {@code wheelSize^n} ticks; a bucket of an upper level is
+ * cascaded into the levels below when the clock reaches its start. Deadlines are rounded up to a whole tick, so a task
+ * never fires before its deadline. Not thread-safe.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<List<Timeout<T>>>> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size at least 2.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Returns {@code false} without scheduling when the deadline has already been reached.
+     */
+    public boolean add(long deadlineMillis, T task) {
+        long dueTick = -Math.floorDiv(-deadlineMillis, tickMillis);
+        if (dueTick <= currentTick) {
+            return false;
+        }
+        place(new Timeout<>(dueTick, task));
+        size++;
+        return true;
+    }
+
+    public void advanceTo(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(expired);
+            for (Timeout<T> timeout : drain(0, currentTick)) {
+                size--;
+                expired.accept(timeout.task);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(Consumer<T> expired) {
+        long span = 1;
+        for (int level = 1; level < levels.size(); level++) {
+            span *= wheelSize;
+            if (currentTick % span != 0) {
+                return;
+            }
+            for (Timeout<T> timeout : drain(level, currentTick / span)) {
+                if (timeout.dueTick <= currentTick) {
+                    size--;
+                    expired.accept(timeout.task);
+                } else {
+                    place(timeout);
+                }
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delay = timeout.dueTick - currentTick;
+        long span = 1;
+        int level = 0;
+        while (delay >= span * wheelSize) {
+            span *= wheelSize;
+            level++;
+        }
+        bucket(level, timeout.dueTick / span).add(timeout);
+    }
+
+    private List<Timeout<T>> drain(int level, long slot) {
+        if (level >= levels.size()) {
+            return List.of();
+        }
+        List<Timeout<T>> bucket = bucket(level, slot);
+        List<Timeout<T>> drained = new ArrayList<>(bucket);
+        bucket.clear();
+        return drained;
+    }
+
+    private List<Timeout<T>> bucket(int level, long slot) {
+        while (levels.size() <= level) {
+            List<List<Timeout<T>>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level).get((int) (slot % wheelSize));
+    }
+
+    private static class Timeout<T> {
+        private final long dueTick;
+        private final T task;
+
+        private Timeout(long dueTick, T task) {
+            this.dueTick = dueTick;
+            this.task = task;
+        }
+    }
+}
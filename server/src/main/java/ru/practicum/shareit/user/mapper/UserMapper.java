@@ -17,6 +17,14 @@ public class UserMapper {
                 .build();
     }
 
+    public static UserDto copy(UserDto userDto) {
+        return UserDto.builder()
+                .id(userDto.getId())
+                .name(userDto.getName())
+                .email(userDto.getEmail())
+                .build();
+    }
+
     public static User toUser(UserDto userDto) {
         return User.builder()
                 .id(userDto.getId())
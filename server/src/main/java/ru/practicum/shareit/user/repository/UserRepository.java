@@ -1,7 +1,15 @@
 package ru.practicum.shareit.user.repository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.user.model.User;
 
+import static ru.practicum.shareit.config.CacheConfig.USER_EXISTS;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @Override
+    @Cacheable(cacheNames = USER_EXISTS, unless = "!#result")
+    boolean existsById(Long id);
+
 }
@@ -2,16 +2,26 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.service.ItemChangedEvent;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static ru.practicum.shareit.config.CacheConfig.USERS;
+import static ru.practicum.shareit.config.CacheConfig.USER_EXISTS;
 import static ru.practicum.shareit.exception.Constant.NOT_FOUND_USER;
 
 @Slf4j
@@ -19,6 +29,9 @@ import static ru.practicum.shareit.exception.Constant.NOT_FOUND_USER;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -27,6 +40,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = USERS)
     @Override
     public UserDto findUserById(long userId) {
         return UserMapper.toUserDto(userRepository.findById(userId)
@@ -40,6 +54,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = USERS, key = "#userDto.id")
     @Override
     public UserDto updateUser(UserDto userDto) {
         User user = UserMapper.toUser(userDto);
@@ -49,19 +64,24 @@ public class UserServiceImpl implements UserService {
         if (user.getEmail() != null) {
             userUpdate.setEmail(user.getEmail());
         }
-        if (user.getName() != null) {
+        if (user.getName() != null && !user.getName().equals(userUpdate.getName())) {
             userUpdate.setName(user.getName());
+            eventPublisher.publishEvent(new ItemChangedEvent(commentRepository.findItemIdsByAuthorId(userUpdate.getId())));
         }
         return UserMapper.toUserDto(userRepository.save(userUpdate));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {USERS, USER_EXISTS})
     @Override
     public void deleteUserById(long userId) {
         if (!userRepository.existsById(userId)) {
             throw new NotFoundException(String.format(NOT_FOUND_USER, userId));
         }
+        Set<Long> itemIds = new HashSet<>(bookingRepository.findItemIdsByBookerId(userId));
+        itemIds.addAll(commentRepository.findItemIdsByAuthorId(userId));
         userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemIds));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS item_summaries (
+  item_id BIGINT NOT NULL PRIMARY KEY REFERENCES items(id) ON DELETE CASCADE,
+  owner_id BIGINT NOT NULL,
+  name VARCHAR(255) NOT NULL,
+  description VARCHAR(512) NOT NULL,
+  is_available BOOLEAN NOT NULL,
+  last_booking_id BIGINT,
+  last_booker_id BIGINT,
+  next_booking_id BIGINT,
+  next_booker_id BIGINT,
+  valid_until TIMESTAMP WITHOUT TIME ZONE,
+  comment_count INTEGER NOT NULL,
+  latest_comments VARCHAR NOT NULL
+);
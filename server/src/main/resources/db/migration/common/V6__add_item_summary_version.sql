@@ -0,0 +1 @@
+ALTER TABLE item_summaries ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
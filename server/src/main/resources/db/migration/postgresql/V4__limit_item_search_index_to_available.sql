@@ -0,0 +1,7 @@
+DROP INDEX IF EXISTS idx_items_name_trgm;
+DROP INDEX IF EXISTS idx_items_description_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_items_available_name_trgm ON items
+    USING gin (lower(name) gin_trgm_ops) WHERE is_available = true;
+CREATE INDEX IF NOT EXISTS idx_items_available_description_trgm ON items
+    USING gin (lower(description) gin_trgm_ops) WHERE is_available = true;
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+import ru.practicum.shareit.batch.service.BatchService;
+import ru.practicum.shareit.exception.BatchTooLargeException;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BatchController.class)
+@AutoConfigureMockMvc
+public class BatchControllerTest {
+
+    @MockBean
+    private BatchService batchService;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void executeReturnsStatusOfEachSubRequest() throws Exception {
+        List<BatchRequestDto> requests = List.of(
+                new BatchRequestDto("item", "GET", "/items/1"),
+                new BatchRequestDto("user", "GET", "/users/2"));
+        when(batchService.execute(eq(1L), anyList()))
+                .thenReturn(List.of(
+                        new BatchResponseDto("item", 200, new ErrorResponse("ok")),
+                        new BatchResponseDto("user", 404, new ErrorResponse("not found"))));
+
+        mvc.perform(post("/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(mapper.writeValueAsString(requests))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("item"))
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].body.error").value("not found"));
+    }
+
+    @Test
+    public void executeWhenBatchIsTooLargeThenBadRequest() throws Exception {
+        when(batchService.execute(eq(1L), anyList()))
+                .thenThrow(new BatchTooLargeException("Пакет содержит 21 подзапросов, допустимо не более 20."));
+
+        mvc.perform(post("/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(mapper.writeValueAsString(List.of(new BatchRequestDto("item", "GET", "/items/1"))))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Пакет содержит 21 подзапросов, допустимо не более 20."));
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.batch.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+import ru.practicum.shareit.exception.BatchTooLargeException;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class IntegrationBatchServiceTest {
+    private final BatchService batchService;
+    private final UserService userService;
+
+    @Test
+    public void executeReturnsResultForEachSubRequestEvenWhenSomeFail() {
+        UserDto user = userService.createUser(UserDto.builder().name("batch").email("batch@yandex.ru").build());
+
+        List<BatchResponseDto> responses = batchService.execute(user.getId(), List.of(
+                new BatchRequestDto("user", "GET", "/users/" + user.getId()),
+                new BatchRequestDto("missing", "GET", "/users/" + (user.getId() + 1000)),
+                new BatchRequestDto("write", "DELETE", "/users/" + user.getId())));
+
+        assertEquals(3, responses.size());
+        assertEquals("user", responses.get(0).getId());
+        assertEquals(200, responses.get(0).getStatus());
+        assertEquals(user.getName(), ((UserDto) responses.get(0).getBody()).getName());
+        assertEquals(404, responses.get(1).getStatus());
+        assertEquals(400, responses.get(2).getStatus());
+        userService.deleteUserById(user.getId());
+    }
+
+    @Test
+    public void executeKeepsRequestOrderWhenSubRequestsRunConcurrently() {
+        List<UserDto> users = IntStream.range(0, 20)
+                .mapToObj(i -> userService.createUser(UserDto.builder()
+                        .name("batch" + i).email("batch" + i + "@yandex.ru").build()))
+                .collect(Collectors.toList());
+
+        List<BatchResponseDto> responses = batchService.execute(users.get(0).getId(), users.stream()
+                .map(user -> new BatchRequestDto(user.getName(), "GET", "/users/" + user.getId()))
+                .collect(Collectors.toList()));
+
+        assertEquals(users.size(), responses.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertEquals(users.get(i).getName(), responses.get(i).getId());
+            assertEquals(200, responses.get(i).getStatus());
+            assertEquals(users.get(i).getEmail(), ((UserDto) responses.get(i).getBody()).getEmail());
+        }
+        users.forEach(user -> userService.deleteUserById(user.getId()));
+    }
+
+    @Test
+    public void executeWhenBatchIsTooLargeThenThrows() {
+        List<BatchRequestDto> requests = IntStream.range(0, 21)
+                .mapToObj(i -> new BatchRequestDto("user" + i, "GET", "/users/" + i))
+                .collect(Collectors.toList());
+
+        assertThrows(BatchTooLargeException.class, () -> batchService.execute(1L, requests));
+    }
+}
@@ -1,27 +1,38 @@
 package ru.practicum.shareit.booking;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.config.WebConfig;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 
 @WebMvcTest(BookingController.class)
+@Import(WebConfig.class)
 class BookingControllerTest {
 
     @Autowired
@@ -126,4 +137,83 @@ class BookingControllerTest {
 
         verify(bookingService).findBookingForAllOwnerItems(anyLong(), any(BookingState.class), any(PageRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindBookingForAllOwnerItemsWhenCursorThenReturnNextCursor() throws Exception {
+        PageCursor after = PageCursor.of(LocalDateTime.of(2030, 1, 1, 12, 0), 5L);
+        when(bookingService.findBookingForAllOwnerItems(anyLong(), any(BookingState.class), eq(after), eq(1)))
+                .thenReturn(Collections.singletonList(bookingDto));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "ALL")
+                        .param("size", "1")
+                        .param("after", after.encode()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER,
+                        PageCursor.of(bookingDto.getStart(), bookingDto.getId()).encode()))
+                .andExpect(content().json(objectMapper.writeValueAsString(Collections.singletonList(bookingDto))));
+
+        verify(bookingService).findBookingForAllOwnerItems(anyLong(), any(BookingState.class), eq(after), eq(1));
+    }
+
+    @Test
+    void testFindAllBookingsForOwnerWhenPageIsNotFullThenNoNextCursor() throws Exception {
+        when(bookingService.findAllBookingsForOwner(anyLong(), any(BookingState.class), any(PageCursor.class), anyInt()))
+                .thenReturn(Collections.singletonList(bookingDto));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "10")
+                        .param("after", PageCursor.of(LocalDateTime.now(), 5L).encode()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testFindAllBookingsForOwnerWhenCursorIsMalformedThenBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("after", "not a cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFindAllBookingsForOwnerWhenCursorHasNoPositionThenBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("after", PageCursor.of(5L).encode()))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingService, never()).findAllBookingsForOwner(anyLong(), any(BookingState.class),
+                any(PageCursor.class), anyInt());
+    }
+
+    @Test
+    void testFindBookingForAllOwnerItemsWhenAcceptCborThenReturnSmallerEquivalentPayload() throws Exception {
+        Collection<BookingDto> page = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> BookingDto.builder()
+                        .id(id)
+                        .start(LocalDateTime.of(2030, 1, 1, 10, 0).plusHours(id))
+                        .end(LocalDateTime.of(2030, 1, 2, 10, 0).plusHours(id))
+                        .itemId(id)
+                        .build())
+                .collect(Collectors.toList());
+        when(bookingService.findBookingForAllOwnerItems(anyLong(), any(BookingState.class), any(PageRequest.class)))
+                .thenReturn(page);
+
+        byte[] json = mockMvc.perform(get("/bookings/owner?from=0&size=100")
+                        .header("X-Sharer-User-Id", 1L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/bookings/owner?from=0&size=100")
+                        .header("X-Sharer-User-Id", 1L)
+                        .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(objectMapper.readTree(json), new ObjectMapper(new CBORFactory()).readTree(cbor));
+        assertTrue(cbor.length < json.length);
+    }
+}
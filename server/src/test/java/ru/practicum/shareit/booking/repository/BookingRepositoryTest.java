@@ -1,12 +1,16 @@
 package ru.practicum.shareit.booking.repository;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
@@ -14,12 +18,16 @@ import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class BookingRepositoryTest {
 
     @Autowired
@@ -31,6 +39,11 @@ class BookingRepositoryTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+
     private User booker;
 
     private Item item;
@@ -41,7 +54,7 @@ class BookingRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        User owner = userRepository.save(User.builder()
+        owner = userRepository.save(User.builder()
                 .name("name")
                 .email("mail@mail.ru")
                 .build());
@@ -124,6 +137,149 @@ class BookingRepositoryTest {
         Assertions.assertEquals(List.of(bookingPast), allByBookerIdAndEndBefore);
     }
 
+    @Test
+    void existsOverlappingBooking() {
+        Set<BookingStatus> ignored = EnumSet.of(BookingStatus.REJECTED, BookingStatus.CANCELED);
+        LocalDateTime start = bookingFuture.getStart().plusMinutes(10);
+        LocalDateTime end = bookingFuture.getEnd().minusMinutes(10);
+
+        Assertions.assertTrue(bookingRepository.existsOverlappingBooking(item.getId(), ignored, start, end));
+        Assertions.assertFalse(bookingRepository.existsOverlappingBooking(item.getId(), ignored,
+                bookingFuture.getEnd().plusMinutes(10), bookingFuture.getEnd().plusHours(1)));
+
+        bookingFuture.setStatus(BookingStatus.REJECTED);
+        bookingRepository.save(bookingFuture);
+
+        Assertions.assertFalse(bookingRepository.existsOverlappingBooking(item.getId(), ignored, start, end));
+    }
+
+    @Test
+    void findAllForOwnerAfterContinuesFromCursor() {
+        entityManager.flush();
+        entityManager.clear();
+        List<Booking> firstPage = bookingRepository.findAllForOwner(owner.getId(), PageRequest.of(0, 1));
+        Booking last = firstPage.get(0);
+
+        List<Booking> nextPage = bookingRepository.findAllForOwnerAfter(owner.getId(), last.getStart(), last.getId(),
+                PageRequest.of(0, 2));
+
+        Assertions.assertEquals(bookingFuture.getId(), last.getId());
+        Assertions.assertEquals(List.of(bookingCurrent.getId(), bookingPast.getId()),
+                nextPage.stream().map(Booking::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void findAllForBookerAfterBreaksStartTiesById() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        Booking first = saveBooking(start, start.plusHours(1));
+        Booking second = saveBooking(start, start.plusHours(2));
+
+        List<Booking> nextPage = bookingRepository.findAllForBookerFutureAfter(booker.getId(), LocalDateTime.now(),
+                start, second.getId(), PageRequest.of(0, 10));
+
+        Assertions.assertEquals(List.of(first, bookingFuture), nextPage);
+    }
+
+    @Test
+    void findLastAndNextApprovedByItemIdInReturnsOneOfEachPerItem() {
+        Item other = itemRepository.save(Item.builder()
+                .name("other")
+                .description("desc")
+                .available(true)
+                .owner(owner)
+                .build());
+        Booking otherPast = bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .item(other)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+        saveBooking(LocalDateTime.now().plusMinutes(30), LocalDateTime.now().plusHours(3))
+                .setStatus(BookingStatus.REJECTED);
+        Statistics statistics = resetStatistics();
+
+        List<Booking> found = bookingRepository.findLastAndNextApprovedByItemIdIn(Set.of(item.getId(), other.getId()),
+                LocalDateTime.now());
+
+        Assertions.assertEquals(Set.of(bookingCurrent.getId(), bookingFuture.getId(), otherPast.getId()),
+                found.stream().map(Booking::getId).collect(Collectors.toSet()));
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByBookerIdLoadsPageInOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        BookingMapper.toBookingDto(bookingRepository.findAllByBookerId(booker.getId(), Pageable.unpaged()));
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllForOwnerLoadsPageInOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        BookingMapper.toBookingDto(bookingRepository.findAllForOwner(owner.getId(), Pageable.unpaged()));
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdLoadsItemOwnerAndBookerInOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        Booking found = bookingRepository.findById(bookingPast.getId()).orElseThrow();
+        BookingMapper.toBookingDto(found);
+
+        Assertions.assertEquals(owner.getId(), found.getItem().getOwner().getId());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics resetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    void bookerQueriesAreIndexed() {
+        String plan = explain("select * from bookings where booker_id = 1 and start_date > now() " +
+                "order by start_date desc");
+
+        Assertions.assertFalse(plan.contains("tableScan"), plan);
+        Assertions.assertTrue(indexExists("IDX_BOOKINGS_BOOKER_START"));
+    }
+
+    @Test
+    void itemStatusQueriesAreIndexed() {
+        String plan = explain("select * from bookings where item_id in (1, 2) and status = 'APPROVED'");
+
+        Assertions.assertFalse(plan.contains("tableScan"), plan);
+        Assertions.assertTrue(indexExists("IDX_BOOKINGS_ITEM_STATUS_START"));
+    }
+
+    private Booking saveBooking(LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(end)
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+    }
+
+    private String explain(String sql) {
+        return entityManager.createNativeQuery("explain " + sql).getSingleResult().toString();
+    }
+
+    private boolean indexExists(String name) {
+        return ((Number) entityManager.createNativeQuery("select count(*) from information_schema.indexes " +
+                "where index_name = ?1").setParameter(1, name).getSingleResult()).intValue() > 0;
+    }
+
     @AfterEach
     void tearDown() {
         userRepository.deleteAll();
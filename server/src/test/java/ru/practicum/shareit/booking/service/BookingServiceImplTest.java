@@ -6,12 +6,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.BookingTimeUnavailableException;
 import ru.practicum.shareit.exception.IncorrectDateTimeException;
 import ru.practicum.shareit.exception.NotAvailableException;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -29,6 +31,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +46,9 @@ class BookingServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -100,7 +106,7 @@ class BookingServiceImplTest {
 
     @Test
     void testCreateBookingWhenAllConditionsAreMetThenBookingIsCreated() {
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.ofNullable(item));
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.ofNullable(item));
         when(userRepository.findById(user.getId())).thenReturn(Optional.ofNullable(user));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
 
@@ -124,7 +130,7 @@ class BookingServiceImplTest {
     @Test
     void testCreateBookingWhenItemIsNotAvailableThenThrowNotAvailableException() {
         item.setAvailable(false);
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.ofNullable(item));
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.ofNullable(item));
 
         assertThrows(NotAvailableException.class, () -> bookingService.createBooking(user.getId(), bookingToSave));
 
@@ -133,7 +139,7 @@ class BookingServiceImplTest {
 
     @Test
     void testCreateBookingWhenUserIsNotOwnerOfItemThenThrowNotFoundException() {
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.ofNullable(item));
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.ofNullable(item));
         when(userRepository.findById(owner.getId())).thenReturn(Optional.ofNullable(owner));
 
         assertThrows(NotFoundException.class, () -> bookingService.createBooking(owner.getId(), bookingToSave));
@@ -141,6 +147,19 @@ class BookingServiceImplTest {
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void testCreateBookingWhenTimeOverlapsThenThrowBookingTimeUnavailableException() {
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.ofNullable(item));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.ofNullable(user));
+        when(bookingRepository.existsOverlappingBooking(eq(item.getId()), any(),
+                eq(bookingToSave.getStart()), eq(bookingToSave.getEnd()))).thenReturn(true);
+
+        assertThrows(BookingTimeUnavailableException.class,
+                () -> bookingService.createBooking(user.getId(), bookingToSave));
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     void testCalculateTotalWithNullInput() {
         assertThrows(NotFoundException.class, () -> bookingService.findBookingForAllOwnerItems(user.getId(), null, page));
@@ -285,7 +304,7 @@ class BookingServiceImplTest {
     @Test
     void createWhenItemNotAvailableThenNotAvailable() {
         item.setAvailable(false);
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.ofNullable(item));
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.ofNullable(item));
 
         assertThrows(NotAvailableException.class, () -> bookingService.createBooking(user.getId(), bookingToSave));
 
@@ -294,7 +313,7 @@ class BookingServiceImplTest {
 
     @Test
     void createWhenBookerIsTheItemOwnerThenNotFoundExceptionThrow() {
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.ofNullable(item));
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.ofNullable(item));
         when(userRepository.findById(owner.getId())).thenReturn(Optional.ofNullable(owner));
 
         assertThrows(NotFoundException.class, () -> bookingService.createBooking(owner.getId(), bookingToSave));
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class HibernateCacheEndpointTest {
+    private final HibernateCacheEndpoint endpoint;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    @Test
+    public void regionsReportSecondLevelAndQueryCacheHits() {
+        User user = userRepository.save(User.builder().name("l2").email("l2@yandex.ru").build());
+        long userHits = hits("users");
+        long queryHits = hits("default-query-results-region");
+
+        userRepository.findById(user.getId());
+        assertEquals("l2", userRepository.findById(user.getId()).orElseThrow().getName());
+        itemRepository.findAllByRequestId(-1L);
+        itemRepository.findAllByRequestId(-1L);
+
+        assertTrue(hits("users") > userHits);
+        assertTrue(hits("default-query-results-region") > queryHits);
+        userRepository.deleteById(user.getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private long hits(String region) {
+        Map<String, Object> regions = (Map<String, Object>) endpoint.regions().get("regions");
+        return (long) ((Map<String, Object>) regions.get(region)).get("hits");
+    }
+}
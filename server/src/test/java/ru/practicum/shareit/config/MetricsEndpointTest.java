@@ -0,0 +1,28 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class MetricsEndpointTest {
+    private final MockMvc mvc;
+
+    @Test
+    public void exposesUserCacheMetrics() throws Exception {
+        mvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements").isNotEmpty());
+        mvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:userExists"))
+                .andExpect(status().isOk());
+    }
+}
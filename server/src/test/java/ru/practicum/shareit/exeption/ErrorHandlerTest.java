@@ -2,6 +2,7 @@ package ru.practicum.shareit.exeption;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.exception.BookingTimeUnavailableException;
 import ru.practicum.shareit.exception.ErrorHandler;
 import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -67,4 +68,15 @@ public class ErrorHandlerTest {
 
         assertEquals(errorMessage, response.getError());
     }
+
+    @Test
+    public void handleBookingTimeUnavailableExceptionShouldReturnErrorResponseWithConflictStatus() {
+        String errorMessage = "Time unavailable";
+        BookingTimeUnavailableException exception = new BookingTimeUnavailableException(errorMessage);
+        ErrorHandler errorHandler = new ErrorHandler();
+
+        ErrorResponse response = errorHandler.handleBookingTimeUnavailableException(exception);
+
+        assertEquals(errorMessage, response.getError());
+    }
 }
\ No newline at end of file
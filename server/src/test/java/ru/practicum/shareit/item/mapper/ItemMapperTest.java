@@ -92,7 +92,7 @@ public class ItemMapperTest {
         booking.setBooker(user);
         booking.setStatus(BookingStatus.APPROVED);
 
-        ItemDto itemDto = ItemMapper.toFullItemDto(item, Arrays.asList(booking), Arrays.asList(comment));
+        ItemDto itemDto = ItemMapper.toFullItemDto(item, booking, null, Arrays.asList(comment));
 
         assertNotNull(itemDto);
         assertEquals(item.getId(), itemDto.getId());
@@ -100,6 +100,9 @@ public class ItemMapperTest {
         assertEquals(item.getDescription(), itemDto.getDescription());
         assertEquals(item.getAvailable(), itemDto.getAvailable());
         assertFalse(itemDto.getComments().isEmpty());
+        assertEquals(booking.getId(), itemDto.getLastBooking().getId());
+        assertEquals(user.getId(), itemDto.getLastBooking().getBookerId());
+        assertNull(itemDto.getNextBooking());
     }
 
     @Test
@@ -5,14 +5,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -24,6 +31,9 @@ class ItemRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User user;
 
     private Item item;
@@ -45,14 +55,38 @@ class ItemRepositoryTest {
 
     @Test
     void testGetItemsBySearchQuery() {
-        List<Item> searched = itemRepository.getItemsBySearchQuery("DeSc", Pageable.unpaged());
+        List<ItemDto> searched = itemRepository.getItemsBySearchQuery("DeSc", Pageable.unpaged());
+
+        assertEquals(1, searched.size());
+        assertEquals(item.getId(), searched.get(0).getId());
+        assertEquals(item.getName(), searched.get(0).getName());
+        assertNull(searched.get(0).getRequestId());
+    }
+
+    @Test
+    void testSearchOrdersNameMatchesFirst() {
+        Item byDescription = itemRepository.save(Item.builder()
+                .name("Набор")
+                .description("сверла для дрели")
+                .available(true)
+                .owner(user)
+                .build());
+        Item byName = itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("ударная")
+                .available(true)
+                .owner(user)
+                .build());
 
-        assertEquals(List.of(item), searched, "Expected and actual lists are not equal");
+        List<ItemDto> searched = itemRepository.getItemsBySearchQuery("дрел", Pageable.unpaged());
+
+        assertEquals(List.of(byName.getId(), byDescription.getId()),
+                searched.stream().map(ItemDto::getId).collect(Collectors.toList()));
     }
 
     @Test
     void testSearchWhenNotExistParam() {
-        List<Item> searched = itemRepository.getItemsBySearchQuery("item", Pageable.unpaged());
+        List<ItemDto> searched = itemRepository.getItemsBySearchQuery("item", Pageable.unpaged());
 
         assertTrue(searched.isEmpty());
     }
@@ -64,6 +98,51 @@ class ItemRepositoryTest {
         assertEquals(List.of(item), allByOwnerId, "Expected and actual lists are not equal");
     }
 
+    @Test
+    void findAllByOwnerIdAfterCursor() {
+        Item next = itemRepository.save(Item.builder()
+                .name("next")
+                .description("next desc")
+                .available(true)
+                .owner(user)
+                .build());
+
+        List<Item> page = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(user.getId(), item.getId(),
+                PageRequest.of(0, 10));
+
+        assertEquals(List.of(next), page);
+    }
+
+    @Test
+    void findByIdForUpdate() {
+        assertEquals(Optional.of(item), itemRepository.findByIdForUpdate(item.getId()));
+    }
+
+    @Test
+    void ownerQueriesAreIndexed() {
+        String plan = explain("select * from items where owner_id = 1");
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(indexExists("IDX_ITEMS_OWNER"));
+    }
+
+    @Test
+    void requestQueriesAreIndexed() {
+        String plan = explain("select * from items where request_id in (1, 2)");
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(indexExists("IDX_ITEMS_REQUEST"));
+    }
+
+    private String explain(String sql) {
+        return entityManager.createNativeQuery("explain " + sql).getSingleResult().toString();
+    }
+
+    private boolean indexExists(String name) {
+        return ((Number) entityManager.createNativeQuery("select count(*) from information_schema.indexes " +
+                "where index_name = ?1").setParameter(1, name).getSingleResult()).intValue() > 0;
+    }
+
     @AfterEach
     void tearDown() {
         userRepository.deleteAll();
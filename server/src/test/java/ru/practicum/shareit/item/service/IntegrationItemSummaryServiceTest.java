@@ -0,0 +1,184 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "shareit.item-summary.timer.tick=PT0.1S")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class IntegrationItemSummaryServiceTest {
+    private static final int THREADS = 4;
+
+    private final ItemService itemService;
+    private final UserService userService;
+    private final BookingService bookingService;
+    private final ItemSummaryService itemSummaryService;
+    private final ItemSummaryRepository itemSummaryRepository;
+
+    private UserDto owner;
+    private UserDto booker;
+    private ItemDto item;
+    private BookingDto pastBooking;
+    private BookingDto futureBooking;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userService.createUser(UserDto.builder().name("owner").email("owner@summary.ru").build());
+        booker = userService.createUser(UserDto.builder().name("booker").email("booker@summary.ru").build());
+        ItemDto itemDto = new ItemDto();
+        itemDto.setName("drill");
+        itemDto.setDescription("summary drill");
+        itemDto.setAvailable(true);
+        item = itemService.createItem(owner.getId(), itemDto);
+
+        pastBooking = book(LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+        futureBooking = book(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        CommentDto comment = new CommentDto();
+        comment.setText("good drill");
+        itemService.createComment(booker.getId(), item.getId(), comment);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        userService.deleteUserById(booker.getId());
+        userService.deleteUserById(owner.getId());
+    }
+
+    @Test
+    public void writesKeepSummaryUpToDate() {
+        ItemSummary summary = itemSummaryRepository.findById(item.getId()).orElseThrow();
+
+        assertEquals(pastBooking.getId(), summary.getLastBookingId());
+        assertEquals(futureBooking.getId(), summary.getNextBookingId());
+        assertEquals(futureBooking.getStart(), summary.getValidUntil());
+        assertEquals(1, summary.getCommentCount());
+
+        ItemDto forOwner = itemService.findItemById(owner.getId(), item.getId());
+        assertEquals(pastBooking.getId(), forOwner.getLastBooking().getId());
+        assertEquals(booker.getId(), forOwner.getNextBooking().getBookerId());
+        assertEquals("booker", forOwner.getComments().get(0).getAuthorName());
+        assertNull(itemService.findItemById(booker.getId(), item.getId()).getLastBooking());
+
+        userService.updateUser(UserDto.builder().id(booker.getId()).name("renamed").build());
+
+        assertTrue(itemSummaryRepository.findById(item.getId()).orElseThrow().getLatestComments().contains("renamed"));
+        assertEquals("renamed", itemService.findItemById(owner.getId(), item.getId()).getComments().get(0).getAuthorName());
+    }
+
+    @Test
+    public void checkFindsStaleSummaryAndRebuildRepairsIt() {
+        assertFalse(itemSummaryService.check().getStale().contains(item.getId()));
+
+        ItemSummary summary = itemSummaryRepository.findById(item.getId()).orElseThrow();
+        summary.setName("broken");
+        summary.setNextBookingId(null);
+        itemSummaryRepository.save(summary);
+
+        assertTrue(itemSummaryService.check().getStale().contains(item.getId()));
+
+        assertTrue(itemSummaryService.rebuild() > 0);
+
+        assertFalse(itemSummaryService.check().getStale().contains(item.getId()));
+        assertEquals("drill", itemService.findItemById(owner.getId(), item.getId()).getName());
+    }
+
+    @Test
+    public void timerFlipsLastAndNextWhenBookingStarts() throws InterruptedException {
+        BookingDto soon = book(LocalDateTime.now().plusSeconds(1), LocalDateTime.now().plusHours(2));
+        assertEquals(soon.getId(), itemSummaryRepository.findById(item.getId()).orElseThrow().getNextBookingId());
+
+        ItemSummary summary = itemSummaryRepository.findById(item.getId()).orElseThrow();
+        for (int i = 0; i < 50 && !Long.valueOf(soon.getId()).equals(summary.getLastBookingId()); i++) {
+            Thread.sleep(100);
+            summary = itemSummaryRepository.findById(item.getId()).orElseThrow();
+        }
+
+        assertEquals(soon.getId(), summary.getLastBookingId());
+        assertEquals(futureBooking.getId(), summary.getNextBookingId());
+    }
+
+    @Test
+    public void concurrentFirstReadsBuildSummaryWithoutConflicts() throws Exception {
+        itemSummaryRepository.deleteById(item.getId());
+
+        List<ItemDto> found = concurrently(() -> itemService.findItemById(owner.getId(), item.getId()));
+
+        found.forEach(dto -> assertEquals(futureBooking.getId(), dto.getNextBooking().getId()));
+        Optional<ItemSummary> summary = itemSummaryRepository.findById(item.getId());
+        for (int i = 0; i < 50 && summary.isEmpty(); i++) {
+            Thread.sleep(100);
+            summary = itemSummaryRepository.findById(item.getId());
+        }
+        assertEquals(futureBooking.getId(), summary.orElseThrow().getNextBookingId());
+    }
+
+    @Test
+    public void concurrentRefreshesKeepOneUpToDateSummary() throws Exception {
+        itemSummaryRepository.deleteById(item.getId());
+
+        concurrently(() -> {
+            itemSummaryService.refresh(Set.of(item.getId()));
+            return null;
+        });
+
+        ItemSummary summary = itemSummaryRepository.findById(item.getId()).orElseThrow();
+        assertEquals(pastBooking.getId(), summary.getLastBookingId());
+        assertEquals(futureBooking.getId(), summary.getNextBookingId());
+        assertTrue(itemSummaryService.check().getMissing().isEmpty());
+    }
+
+    private <T> List<T> concurrently(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BookingDto book(LocalDateTime start, LocalDateTime end) {
+        BookingDto booking = bookingService.createBooking(booker.getId(),
+                BookingDto.builder().itemId(item.getId()).start(start).end(end).build());
+        return bookingService.updateStatusBooking(owner.getId(), booking.getId(), true);
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -41,6 +42,10 @@ class ItemServiceImplTest {
     private CommentRepository commentRepository;
     @Mock
     private RequestRepository requestRepository;
+    @Mock
+    private ItemSummaryService itemSummaryService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ItemServiceImpl itemService;
@@ -121,8 +126,7 @@ class ItemServiceImplTest {
 
     @Test
     void testFindItemByIdWhenInputIsValidThenReturnItemDto() {
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
-        when(commentRepository.findAllByItemId(item.getId())).thenReturn(Collections.emptyList());
+        when(itemSummaryService.findItem(user.getId(), item.getId())).thenReturn(itemDto);
 
         ItemDto result = itemService.findItemById(user.getId(), item.getId());
 
@@ -135,12 +139,14 @@ class ItemServiceImplTest {
 
     @Test
     void testFindItemByIdWhenInputIsNullThenThrowIllegalArgumentException() {
+        when(itemSummaryService.findItem(user.getId(), 0)).thenThrow(NotFoundException.class);
+
         assertThrows(NotFoundException.class, () -> itemService.findItemById(user.getId(), 0));
     }
 
     @Test
     void testFindItemByIdWhenItemDoesNotExistThenThrowNotFoundException() {
-        when(itemRepository.findById(item.getId())).thenReturn(Optional.empty());
+        when(itemSummaryService.findItem(user.getId(), item.getId())).thenThrow(NotFoundException.class);
 
         assertThrows(NotFoundException.class, () -> itemService.findItemById(user.getId(), item.getId()));
     }
@@ -148,7 +154,7 @@ class ItemServiceImplTest {
     @Test
     void testFindAllItemsByUserIdWhenItemsAreFoundThenReturnListOfItemDto() {
         when(itemRepository.findAllByOwnerId(user.getId(), pageRequest)).thenReturn(Collections.singletonList(item));
-        when(bookingRepository.findAllByItemIdInAndStatus(anySet(), any(BookingStatus.class))).thenReturn(new ArrayList<>());
+        when(bookingRepository.findLastAndNextApprovedByItemIdIn(anySet(), any(LocalDateTime.class))).thenReturn(new ArrayList<>());
         when(commentRepository.findAllByItemIdIn(anySet())).thenReturn(Collections.singletonList(comment));
 
         Collection<ItemDto> result = itemService.findAllItemsByUserId(user.getId(), pageRequest);
@@ -232,9 +238,9 @@ class ItemServiceImplTest {
     void testGetItemsBySearchQueryWhenTextIsNotEmptyThenReturnItems() {
         String searchText = "test";
         PageRequest page = PageRequest.of(0, 10);
-        List<Item> items = new ArrayList<>();
-        items.add(new Item());
-        items.add(new Item());
+        List<ItemDto> items = new ArrayList<>();
+        items.add(new ItemDto());
+        items.add(new ItemDto());
         when(itemRepository.getItemsBySearchQuery(searchText, page)).thenReturn(items);
 
         Collection<ItemDto> result = itemService.getItemsBySearchQuery(searchText, page);
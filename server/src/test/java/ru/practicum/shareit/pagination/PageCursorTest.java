@@ -0,0 +1,41 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.InvalidCursorException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void testDecodeWhenEncodedWithPositionThenReturnSameCursor() {
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2030, 5, 17, 10, 15, 30, 123456000), 42L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testDecodeWhenEncodedWithIdOnlyThenReturnSameCursor() {
+        PageCursor decoded = PageCursor.decode(PageCursor.of(7L).encode());
+
+        assertNull(decoded.getPosition());
+        assertEquals(7L, decoded.getId());
+    }
+
+    @Test
+    void testDecodeWhenMalformedThenThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decode("not a cursor"));
+    }
+
+    @Test
+    void testDecodeWithPositionWhenIdOnlyThenThrowInvalidCursorException() {
+        String cursor = PageCursor.of(7L).encode();
+
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decodeWithPosition(cursor));
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
@@ -66,27 +67,12 @@ public class RequestRepositoryTest {
     @Test
     public void testFindAllByRequestorIdIsNot() {
         long userId = 1L;
-        User user = User.builder()
-                .id(userId)
-                .name("Test")
-                .email("test@yandex.ru")
-                .build();
 
-        ItemRequest request1 = ItemRequest.builder()
-                .id(1L)
-                .description("Request 1")
-                .requestor(user)
-                .created(LocalDateTime.now())
-                .build();
+        ItemRequestDto request1 = new ItemRequestDto(1L, "Request 1", LocalDateTime.now());
 
-        ItemRequest request2 = ItemRequest.builder()
-                .id(2L)
-                .description("Request 2")
-                .requestor(user)
-                .created(LocalDateTime.now())
-                .build();
+        ItemRequestDto request2 = new ItemRequestDto(2L, "Request 2", LocalDateTime.now());
 
-        List<ItemRequest> expectedRequests = new ArrayList<>();
+        List<ItemRequestDto> expectedRequests = new ArrayList<>();
         expectedRequests.add(request1);
         expectedRequests.add(request2);
 
@@ -94,7 +80,7 @@ public class RequestRepositoryTest {
 
         when(requestRepository.findAllByRequestorIdIsNot(userId, page)).thenReturn(expectedRequests);
 
-        List<ItemRequest> actualRequests = requestRepository.findAllByRequestorIdIsNot(userId, page);
+        List<ItemRequestDto> actualRequests = requestRepository.findAllByRequestorIdIsNot(userId, page);
 
         assertEquals(expectedRequests.size(), actualRequests.size());
         assertEquals(expectedRequests, actualRequests);
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Transactional
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class IntegrationRequestServiceTest {
+    private final EntityManager em;
+    private final EntityManagerFactory emf;
+    private final RequestService requestService;
+
+    private User viewer;
+
+    @BeforeEach
+    public void beforeEach() {
+        viewer = persistUser("viewer", "viewer@yandex.ru");
+        User requestor = persistUser("requestor", "requestor@yandex.ru");
+        User owner = persistUser("owner", "owner@yandex.ru");
+
+        for (int i = 0; i < 3; i++) {
+            ItemRequest request = ItemRequest.builder()
+                    .description("request " + i)
+                    .requestor(requestor)
+                    .created(LocalDateTime.now().plusMinutes(i))
+                    .build();
+            em.persist(request);
+            em.persist(Item.builder()
+                    .name("item " + i)
+                    .description("desc " + i)
+                    .available(true)
+                    .owner(owner)
+                    .request(request)
+                    .build());
+        }
+        em.flush();
+    }
+
+    @Test
+    public void findAllRequestIssuesSameStatementsForAnyPageSize() {
+        long singleRequestPage = countStatements(1);
+        long fullPage = countStatements(3);
+
+        assertEquals(singleRequestPage, fullPage);
+    }
+
+    @Test
+    public void findAllRequestAttachesItemsToTheirRequests() {
+        List<ItemRequestDto> requests = requestService.findAllRequest(viewer.getId(), 0, 10);
+
+        assertEquals(3, requests.size());
+        requests.forEach(request -> assertEquals(1, request.getItems().size()));
+    }
+
+    @Test
+    public void findAllRequestDoesNotHydrateEntities() {
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        requestService.findAllRequest(viewer.getId(), 0, 10);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private long countStatements(int size) {
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ItemRequestDto> requests = requestService.findAllRequest(viewer.getId(), 0, size);
+
+        assertEquals(size, requests.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User persistUser(String name, String email) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .build();
+        em.persist(user);
+        return user;
+    }
+}
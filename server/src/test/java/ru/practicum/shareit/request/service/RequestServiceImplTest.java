@@ -142,14 +142,10 @@ public class RequestServiceImplTest {
         Long userId = 1L;
         int from = 0;
         int size = 10;
-        User user = new User();
-        user.setId(userId);
-        ItemRequest itemRequest = new ItemRequest();
-        itemRequest.setRequestor(user);
-        itemRequest.setCreated(LocalDateTime.now());
+        ItemRequestDto itemRequest = new ItemRequestDto(1L, "Test description", LocalDateTime.now());
 
         when(userRepository.existsById(userId)).thenReturn(true);
-        when(requestRepository.findAllByRequestorIdIsNot(userId, PageRequest.of(from, size, Sort.by("created").ascending()))).thenReturn(Arrays.asList(itemRequest));
+        when(requestRepository.findAllByRequestorIdIsNot(userId, PageRequest.of(from, size, Sort.by("created").ascending().and(Sort.by("id"))))).thenReturn(Arrays.asList(itemRequest));
 
         assertEquals(1, requestService.findAllRequest(userId, from, size).size());
     }
@@ -172,7 +168,7 @@ public class RequestServiceImplTest {
         int size = 10;
 
         when(userRepository.existsById(userId)).thenReturn(true);
-        when(requestRepository.findAllByRequestorIdIsNot(userId, PageRequest.of(from, size, Sort.by("created").ascending()))).thenReturn(Collections.emptyList());
+        when(requestRepository.findAllByRequestorIdIsNot(userId, PageRequest.of(from, size, Sort.by("created").ascending().and(Sort.by("id"))))).thenReturn(Collections.emptyList());
 
         assertEquals(0, requestService.findAllRequest(userId, from, size).size());
     }
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void firesOnFirstTickAtOrAfterDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 0);
+        List<String> fired = new ArrayList<>();
+
+        assertTrue(wheel.add(25, "task"));
+        wheel.advanceTo(29, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(30, fired::add);
+        assertEquals(List.of("task"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rejectsReachedDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 100);
+
+        assertFalse(wheel.add(100, "now"));
+        assertFalse(wheel.add(50, "past"));
+        assertTrue(wheel.add(101, "next tick"));
+    }
+
+    @Test
+    void cascadesDistantDeadlinesWithoutFiringEarlyOrLate() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 4, 0);
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            wheel.add(1 + random.nextInt(5000), (long) i);
+        }
+        Map<Long, Long> firedAt = new HashMap<>();
+        Random expected = new Random(42);
+
+        for (long now = 1; now <= 5000; now++) {
+            long time = now;
+            wheel.advanceTo(now, task -> firedAt.put(task, time));
+        }
+
+        assertEquals(0, wheel.size());
+        for (long i = 0; i < 2000; i++) {
+            assertEquals(1 + expected.nextInt(5000), firedAt.get(i));
+        }
+    }
+
+    @Test
+    void catchesUpAfterClockJump() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 4, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.add(3, "near");
+        wheel.add(70, "far");
+        wheel.add(500, "later");
+
+        wheel.advanceTo(100, fired::add);
+
+        assertEquals(List.of("near", "far"), fired);
+        assertEquals(1, wheel.size());
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.request.service.RequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class IntegrationUserCacheTest {
+    private final EntityManagerFactory emf;
+    private final UserService userService;
+    private final RequestService requestService;
+    private final UserRepository userRepository;
+
+    @Test
+    public void findUserByIdIsServedFromCacheUntilUpdated() {
+        UserDto user = userService.createUser(UserDto.builder().name("cached").email("cached@yandex.ru").build());
+        userService.findUserById(user.getId());
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertEquals("cached", userService.findUserById(user.getId()).getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        userService.updateUser(UserDto.builder().id(user.getId()).name("renamed").build());
+
+        assertEquals("renamed", userService.findUserById(user.getId()).getName());
+        userService.deleteUserById(user.getId());
+        assertThrows(NotFoundException.class, () -> userService.findUserById(user.getId()));
+    }
+
+    @Test
+    public void cachedUserCannotBeChangedThroughReturnedDto() {
+        UserDto user = userService.createUser(UserDto.builder().name("copied").email("copied@yandex.ru").build());
+        userService.findUserById(user.getId()).setName("changed");
+
+        UserDto cached = userService.findUserById(user.getId());
+        cached.setName("changed again");
+
+        assertEquals("copied", userService.findUserById(user.getId()).getName());
+        userService.deleteUserById(user.getId());
+    }
+
+    @Test
+    public void userExistenceCheckIsCachedUntilUserIsDeleted() {
+        UserDto user = userService.createUser(UserDto.builder().name("exists").email("exists@yandex.ru").build());
+        userRepository.existsById(user.getId());
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertTrue(userRepository.existsById(user.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        userService.deleteUserById(user.getId());
+        assertFalse(userRepository.existsById(user.getId()));
+        assertThrows(NotFoundException.class, () -> requestService.findRequestsByUserId(user.getId()));
+    }
+}
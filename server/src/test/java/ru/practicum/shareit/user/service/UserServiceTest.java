@@ -2,7 +2,10 @@ package ru.practicum.shareit.user.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -27,7 +30,8 @@ public class UserServiceTest {
     @BeforeEach
     void beforeEach() {
         userRepository = mock(UserRepository.class);
-        userService = new UserServiceImpl(userRepository);
+        userService = new UserServiceImpl(userRepository, mock(BookingRepository.class), mock(CommentRepository.class),
+                mock(ApplicationEventPublisher.class));
         user = new User(1L, "userTest", "userTest@yandex.ru");
     }
 